@@ -0,0 +1,67 @@
+package com.minesweeper.bench;
+
+import java.util.SplittableRandom;
+
+import com.minesweeper.common.FlagState;
+import com.minesweeper.game.Board;
+import com.minesweeper.game.ConstraintSolver;
+import com.minesweeper.game.GameManager;
+import com.minesweeper.game.ProbabilitySolver;
+
+// 기본 제공 플레이어 전략
+//   RANDOM       닫힌 칸을 무작위로 열기 (기준선)
+//   SOLVER       제약 전파 힌트를 따르고, 막히면 무작위 추측
+//   PROBABILITY  제약 전파 힌트를 따르고, 막히면 지뢰 확률이 가장 낮은 칸 추측
+
+public enum PlayerStrategies implements PlayerStrategy {
+    RANDOM {
+        @Override
+        public Move nextMove(GameManager game, SplittableRandom random) {
+            return randomClosed(game.getBoard(), random);
+        }
+    },
+    SOLVER {
+        @Override
+        public Move nextMove(GameManager game, SplittableRandom random) {
+            Move certain = certainMove(game);
+            return certain != null ? certain : randomClosed(game.getBoard(), random);
+        }
+    },
+    PROBABILITY {
+        @Override
+        public Move nextMove(GameManager game, SplittableRandom random) {
+            Move certain = certainMove(game);
+            if (certain != null) {return certain;}
+            ConstraintSolver.Hint guess = new ProbabilitySolver(game.getBoard(), game.getSolver())
+                    .solve(GUESS_BUDGET_MILLIS).safestGuess();
+            return guess != null ? new Move(guess.row(), guess.col(), false) : randomClosed(game.getBoard(), random);
+        }
+    };
+
+    private static final long GUESS_BUDGET_MILLIS = 50;
+    private static final int RANDOM_PROBES = 64; // 무작위 탐색 실패 시 순차 탐색으로 전환
+
+    private static Move certainMove(GameManager game) {
+        ConstraintSolver.Hint hint = game.hint();
+        return hint == null ? null : new Move(hint.row(), hint.col(), hint.mine());
+    }
+
+    // 열 수 있는 칸(닫혀 있고 깃발 없음) 하나 — 대부분 무작위 몇 번으로 찾고, 끝판에만 순차 탐색
+    private static Move randomClosed(Board board, SplittableRandom random) {
+        int rows = board.getRows(), cols = board.getCols();
+        for (int i = 0; i < RANDOM_PROBES; i++) {
+            int r = random.nextInt(rows), c = random.nextInt(cols);
+            if (isOpenable(board, r, c)) {return new Move(r, c, false);}
+        }
+        int start = random.nextInt(rows * cols);
+        for (int i = 0; i < rows * cols; i++) {
+            int cell = (start + i) % (rows * cols);
+            if (isOpenable(board, cell / cols, cell % cols)) {return new Move(cell / cols, cell % cols, false);}
+        }
+        throw new IllegalStateException("열 수 있는 칸이 없습니다.");
+    }
+
+    private static boolean isOpenable(Board board, int r, int c) {
+        return !board.isOpened(r, c) && board.getFlagState(r, c) == FlagState.NONE;
+    }
+}
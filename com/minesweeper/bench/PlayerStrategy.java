@@ -0,0 +1,16 @@
+package com.minesweeper.bench;
+
+import java.util.SplittableRandom;
+
+import com.minesweeper.game.GameManager;
+
+// 시뮬레이션에서 한 수를 고르는 플레이어 전략 (SimulationRunner에 꽂아 쓰는 확장 지점)
+// 러너가 첫 클릭을 처리한 뒤 판이 끝날 때까지 nextMove를 반복 호출한다. random은 작업 스레드 전용이라 동기화가 필요 없다.
+
+public interface PlayerStrategy {
+
+    // 다음 조작: flag면 깃발 순환, 아니면 열기
+    record Move(int row, int col, boolean flag) {}
+
+    Move nextMove(GameManager game, SplittableRandom random);
+}
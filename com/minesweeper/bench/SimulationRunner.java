@@ -0,0 +1,150 @@
+package com.minesweeper.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.Difficulty;
+import com.minesweeper.common.GameState;
+import com.minesweeper.common.MoveResult;
+import com.minesweeper.game.Board;
+import com.minesweeper.game.GameManager;
+
+// GameWindow 없이 헤드리스 게임을 대량으로 돌려 통계를 내는 몬테카를로 시뮬레이터
+// 작업 스레드마다 GameManager(보드) 하나를 두고 판마다 재사용하며, 집계는 LongAdder로 합친다.
+// 판 번호 i의 보드 시드와 플레이 난수는 (시드, i)만으로 정해지므로 스레드 수나 스케줄링과 무관하게 같은 시드면 같은 판 묶음·같은 통계가 나온다
+// (시간 예산으로 근사에 빠질 수 있는 PROBABILITY 전략은 예외). 진행 중에는 1초마다 누적 통계를 출력한다.
+// 실행: java com.minesweeper.bench.SimulationRunner [판 수] [EASY|NORMAL|HARD|행x열x지뢰] [RANDOM|SOLVER|PROBABILITY] [스레드 수] [시드]
+
+public class SimulationRunner {
+    private static final long REPORT_MILLIS = 1000;
+
+    private final BoardSpec spec;
+    private final PlayerStrategy strategy;
+    private final int threads;
+    private final long seed;
+
+    // 누적 통계 (작업 스레드가 동시에 더함)
+    private final LongAdder games = new LongAdder(), wins = new LongAdder(), moves = new LongAdder();
+    private final LongAdder firstOpenCells = new LongAdder();
+    private final LongAdder cascades = new LongAdder(), cascadeCells = new LongAdder();
+
+    public SimulationRunner(BoardSpec spec, PlayerStrategy strategy, int threads, long seed) {
+        this.spec = spec;
+        this.strategy = strategy;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    // 집계 결과 스냅숏
+    public record Stats(long games, long wins, long moves, long firstOpenCells, long cascades, long cascadeCells,
+            long elapsedNanos) {
+        public double winRate() { return games == 0 ? 0 : (double) wins / games; }
+        public double gamesPerSecond() { return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos; }
+        public double avgFirstOpen() { return games == 0 ? 0 : (double) firstOpenCells / games; }
+        public double avgCascade() { return cascades == 0 ? 0 : (double) cascadeCells / cascades; }
+        public double avgMoves() { return games == 0 ? 0 : (double) moves / games; }
+
+        @Override
+        public String toString() {
+            return String.format("%,.0f games/s | games=%,d, win=%.2f%%, first open=%.1f cells, cascade=%.1f cells, moves/game=%.1f",
+                    gamesPerSecond(), games, winRate() * 100, avgFirstOpen(), avgCascade(), avgMoves());
+        }
+    }
+
+    // totalGames판을 모든 작업 스레드가 나눠 진행 (다음 판 번호를 공유 카운터에서 하나씩 가져감)
+    public Stats run(long totalGames, boolean progress) throws InterruptedException {
+        AtomicLong nextGame = new AtomicLong();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(workers.submit(() -> work(nextGame, totalGames)));
+        }
+        workers.shutdown();
+        while (!workers.awaitTermination(REPORT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (progress) {System.out.println(snapshot(start));}
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get(); // 작업 중 예외를 호출자에게 전달
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("시뮬레이션 작업 실패", e.getCause());
+            }
+        }
+        return snapshot(start);
+    }
+
+    private void work(AtomicLong nextGame, long totalGames) {
+        GameManager game = new GameManager(spec); // 스레드당 보드 하나를 판마다 재사용
+        Board board = game.getBoard();
+        for (long index; (index = nextGame.getAndIncrement()) < totalGames; ) {
+            SplittableRandom random = new SplittableRandom(gameSeed(seed, index)); // 판 전용 난수 — 어느 스레드가 맡든 같은 판
+            game.startGame();
+            board.prepareSeed(random.nextLong());
+            playOne(game, random);
+        }
+    }
+
+    // splitmix64로 (기본 시드, 판 번호) → 판 시드
+    static long gameSeed(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void playOne(GameManager game, SplittableRandom random) {
+        Board board = game.getBoard();
+        game.open(random.nextInt(board.getRows()), random.nextInt(board.getCols()));
+        firstOpenCells.add(game.getLastOpened().size());
+        long played = 1;
+        while (!game.isFinished()) {
+            PlayerStrategy.Move move = strategy.nextMove(game, random);
+            MoveResult result = move.flag() ? game.toggleFlag(move.row(), move.col()) : game.open(move.row(), move.col());
+            played++;
+            if (!move.flag() && result != MoveResult.IGNORED && game.getLastOpened().size() > 1) {
+                cascades.increment();
+                cascadeCells.add(game.getLastOpened().size());
+            }
+        }
+        moves.add(played);
+        games.increment();
+        if (game.getState() == GameState.WON) {wins.increment();}
+    }
+
+    private Stats snapshot(long start) {
+        return new Stats(games.sum(), wins.sum(), moves.sum(), firstOpenCells.sum(),
+                cascades.sum(), cascadeCells.sum(), System.nanoTime() - start);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long totalGames = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        BoardSpec spec = args.length > 1 ? parseSpec(args[1]) : Difficulty.EASY.toSpec();
+        PlayerStrategy strategy = args.length > 2 ? PlayerStrategies.valueOf(args[2]) : PlayerStrategies.SOLVER;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+
+        System.out.printf("board=%dx%d/%d, strategy=%s, threads=%d, seed=%d%n",
+                spec.rows(), spec.cols(), spec.mines(), strategy, threads, seed);
+        Stats stats = new SimulationRunner(spec, strategy, threads, seed).run(totalGames, true);
+        System.out.println("결과: " + stats);
+    }
+
+    // EASY / NORMAL / HARD 또는 "행x열x지뢰"
+    private static BoardSpec parseSpec(String text) {
+        String[] parts = text.toLowerCase().split("x");
+        if (parts.length == 3) {
+            return new BoardSpec(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        }
+        return Difficulty.valueOf(text.toUpperCase()).toSpec();
+    }
+}
@@ -0,0 +1,36 @@
+package com.minesweeper.common;
+
+// 보드 크기/지뢰 수/시드를 묶은 보드 사양 — 미리 정의된 Difficulty와 사용자 정의 보드를 같은 방식으로 다룸
+// seed가 null이면 매 판 무작위 배치, 값이 있으면 같은 시드 + 같은 첫 클릭에서 항상 같은 배치
+
+public record BoardSpec(int rows, int cols, int mines, Long seed) {
+    public static final int MAX_SIDE = 10_000; // 한 변 최대 칸 수 (10,000 x 10,000까지 선형 시간/메모리 보장)
+
+    public BoardSpec {
+        if (rows < 1 || cols < 1 || rows > MAX_SIDE || cols > MAX_SIDE) {
+            throw new IllegalArgumentException(
+                    String.format("보드 크기는 1 ~ %d 사이여야 합니다 (입력: %d x %d)", MAX_SIDE, rows, cols));
+        }
+        if (mines < 0 || mines > maxMines(rows, cols)) {
+            throw new IllegalArgumentException(
+                    String.format("지뢰 수는 0 ~ %d 사이여야 합니다 (입력: %d)", maxMines(rows, cols), mines));
+        }
+    }
+
+    public BoardSpec(int rows, int cols, int mines) {
+        this(rows, cols, mines, null);
+    }
+
+    // 어느 칸을 첫 클릭해도 3x3 안전 구역을 비울 수 있는 최대 지뢰 수
+    public static int maxMines(int rows, int cols) {
+        return rows * cols - Math.min(3, rows) * Math.min(3, cols);
+    }
+
+    public BoardSpec withSeed(Long seed) {
+        return new BoardSpec(rows, cols, mines, seed);
+    }
+
+    public String label() {
+        return String.format("사용자 정의 (%dx%d, %d)", rows, cols, mines);
+    }
+}
@@ -4,8 +4,9 @@ import java.awt.Point;
 import java.util.List;
 
 // 셀이 처리해야 하는 좌클릭/우클릭 동작을 추상화하는 인터페이스
+// 결과는 예외 대신 MoveResult 코드로 반환한다 (BOOM: 지뢰, FLAG_LIMIT: 깃발 제한)
 
 public interface Click {
-    void onLeftClick(List<Point> openedCells);
-    void onRightClick();
-}
\ No newline at end of file
+    MoveResult onLeftClick(List<Point> openedCells);
+    MoveResult onRightClick();
+}
@@ -20,6 +20,11 @@ public enum Difficulty {
     public int getRows() { return rows; }
     public int getCols() { return cols; }
     public int getMines() { return mines; }
+
+    // 보드 생성용 사양으로 변환 (시드 없음)
+    public BoardSpec toSpec() {
+        return new BoardSpec(rows, cols, mines);
+    }
     
     // 옵션용 난이도 라벨
     public String label() {
@@ -1,6 +1,7 @@
-//package com.minesweeper.common;
-//
-//public enum GameState {
-//    READY, PLAYING, WON, LOST
-//}
-//게임 진행을 중앙에서 제어하려 했으나 진행중 현재 이 파일은 안쓰는 중
\ No newline at end of file
+package com.minesweeper.common;
+
+// 게임 진행 상태: 첫 클릭 전(READY) → 진행 중(PLAYING) → 승리(WON) 또는 패배(LOST)
+
+public enum GameState {
+    READY, PLAYING, WON, LOST
+}
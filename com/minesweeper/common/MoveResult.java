@@ -0,0 +1,12 @@
+package com.minesweeper.common;
+
+// 한 번의 조작(열기/깃발)의 결과 코드 — 예외 대신 반환값으로 폭발/제한 위반을 알림
+
+public enum MoveResult {
+    IGNORED,      // 보드 밖, 이미 열린 칸, 깃발 칸 열기, 종료된 게임 등 아무 변화 없음
+    OPENED,       // 안전한 칸이 열림 (연쇄 포함)
+    BOOM,         // 지뢰를 열어 패배
+    FLAG_CHANGED, // 깃발 상태가 순환됨
+    FLAG_LIMIT,   // 깃발 수가 지뢰 수에 도달해 새 깃발 거부
+    WON           // 이번 조작으로 승리
+}
@@ -2,41 +2,104 @@ package com.minesweeper.game;
 
 import java.awt.Point;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.minesweeper.common.BoardSpec;
 import com.minesweeper.common.Difficulty;
 import com.minesweeper.common.FlagState;
+import com.minesweeper.common.MoveResult;
 import com.minesweeper.game.cells.Cell;
 import com.minesweeper.game.cells.EmptyCell;
 import com.minesweeper.game.cells.MineCell;
 import com.minesweeper.common.GameExceptions;
 
 //	지뢰게임 보드의 상태를 관리하며 지뢰 배치, 셀 열기, 연쇄 오픈, 승리 판정을 담당
-//	난이도 기반 크기/지뢰 수와 Cell[][]를 보유하며 내부 헬퍼 메서드로 지뢰 배치와 BFS 연산을 구현한다.
+//	난이도 기반 크기/지뢰 수와 칸당 1바이트로 압축한 셀 상태 배열(CellBits)을 보유하며 내부 헬퍼 메서드로 지뢰 배치와 BFS 연산을 구현한다.
+//	Cell 객체는 UI가 요청할 때만 getCell()로 만들어지는 뷰이며, 상태는 모두 이 배열에 저장된다.
 
 public class Board {
-	private static final int[] NEAR_ROW = {-1, -1, -1, 0, 0, 1, 1, 1};// 주변 8칸 조회 용도
-    private static final int[] NEAR_COL = {-1, 0, 1, -1, 1, -1, 0, 1};
 	private int rows, cols, mineCount;
-    private Cell[][] cells; // 2차원 셀 배열
-    private Random random = new Random();
+	private final int stride; // 테두리 1칸을 포함한 한 행의 길이 (cols + 2)
+	private final int[] nearOffsets; // 주변 8칸의 인덱스 차이 (테두리 덕분에 범위 검사 불필요)
+    private byte[] cellStates; // 칸당 1바이트, 바깥 테두리 1칸은 '열림'으로 채운 패딩 (인덱스 = (r + 1) * stride + c + 1)
+    private final Random seedSource = new Random(); // 시드 없는 사양에서 판마다 새 시드를 뽑는 용도
+    private long seed; // 이번 판의 시드 — 시드 + 첫 클릭 위치가 지뢰 배치를 완전히 결정
+    private int firstClickRow = -1, firstClickCol = -1;
+    private final BoardSpec spec;
     private boolean isMinePlaced;
+    private MinePlacement minePlacement = MinePlacement.AUTO; // 지뢰 배치 전략
+    private boolean noGuess; // 추측 없이 풀리는 배치만 사용 (NoGuessGenerator)
+    private boolean seedPrepared; // 첫 클릭 전에 검증된 시드가 미리 지정됨
+    private boolean relocatePending; // 미리 만든 배치 — 첫 열기 때 클릭 주변 3x3의 지뢰를 옮겨야 함
+    private final FloodFill floodFill = new FloodFill(); // 연쇄 오픈 엔진 (링 버퍼 재사용)
+    private volatile ZeroRegionIndex zeroRegions; // 배치 확정 후 백그라운드에서 만든 0 영역 색인 (없으면 BFS)
+    private volatile int layoutVersion; // 배치가 새로 시작될 때마다 증가 (색인 작업 스레드가 오래된 요청을 가려낼 때도 읽음)
+    private int indexedVersion = -1; // 색인 작업을 마지막으로 요청한 배치 버전
+    private final AtomicReference<IndexRequest> pendingIndex = new AtomicReference<>(); // 아직 시작 안 된 색인 요청 (보드당 최대 1개)
+    private boolean zeroRegionIndexEnabled = Boolean.getBoolean("minesweeper.zeroRegionIndex"); // 기본 꺼짐 — 대화형 화면에서만 켬
+    private final IntList cascadeScratch = new IntList(); // List<Point> 어댑터용 재사용 버퍼
+    private final MoveHistory history = new MoveHistory(); // 되돌리기/다시 실행용 변경분 기록
+
+    // 승리 판정/깃발 제한을 O(1)로 만들기 위한 누적 카운터 (상태 변경 시 writeState에서 갱신)
+    private int openedSafeCount;   // 열린 비지뢰 칸 수
+    private int flaggedCount;      // 깃발 수 (물음표 제외)
+    private int flaggedMineCount;  // 지뢰 위에 꽂힌 깃발 수
+    private int openedMineCount;   // 열린 지뢰 수 (0보다 크면 폭발한 상태)
+    // -Dminesweeper.debugCounters=true 이면 카운터를 전체 스캔 결과와 교차 검증
+    private static final boolean DEBUG_COUNTERS = Boolean.getBoolean("minesweeper.debugCounters");
     
     public Board(Difficulty diff) {
-        this.rows = diff.getRows();
-        this.cols = diff.getCols();
-        this.mineCount = diff.getMines();
-        this.cells = new Cell[rows][cols];
+        this(diff.toSpec());
+    }
+
+    // 난이도 enum 밖의 임의 크기 보드 (벤치마크/대형 보드용)
+    public Board(int rows, int cols, int mineCount) {
+        this(new BoardSpec(rows, cols, mineCount));
+    }
+
+    // 사용자 정의 사양 (크기/지뢰 수 검증은 BoardSpec 생성 시 완료)
+    public Board(BoardSpec spec) {
+        this.spec = spec;
+        this.rows = spec.rows();
+        this.cols = spec.cols();
+        this.mineCount = spec.mines();
+        this.seed = nextSeed();
+        this.stride = cols + 2;
+        this.nearOffsets = new int[] {-stride - 1, -stride, -stride + 1, -1, 1, stride - 1, stride, stride + 1};
+        this.cellStates = newPaddedStates();
+    }
+
+    // 테두리 칸을 열림 상태로 둔 빈 상태 배열 생성 — 연쇄 오픈이 테두리를 자연히 건너뜀
+    private byte[] newPaddedStates() {
+        byte[] states = new byte[(rows + 2) * stride];
+        Arrays.fill(states, 0, stride, (byte) CellBits.OPENED);
+        Arrays.fill(states, (rows + 1) * stride, states.length, (byte) CellBits.OPENED);
+        for (int r = 1; r <= rows; r++) {
+            states[r * stride] = CellBits.OPENED;
+            states[r * stride + cols + 1] = CellBits.OPENED;
+        }
+        return states;
     }
 
     // 전체 보드 초기화
     public void initBoard() {
-    	cells = new Cell[rows][cols];
-    	fillEmptyCells();
+    	cellStates = newPaddedStates(); // 모든 칸이 닫힌 빈 칸(0)으로 시작
+    	layoutVersion++; // 이전 배치의 0 영역 색인 무효화
+    	zeroRegions = null; // 지난 판 색인(칸당 8바이트 안팎)을 다음 판까지 붙잡지 않도록
     	isMinePlaced = false; // 지뢰 없음 
+    	seed = nextSeed();
+    	seedPrepared = false;
+    	relocatePending = false;
+    	firstClickRow = -1;
+    	firstClickCol = -1;
+    	openedSafeCount = 0;
+    	flaggedCount = 0;
+    	flaggedMineCount = 0;
+    	openedMineCount = 0;
+    	history.clear();
         
     	// 첫 클릭은 지뢰를 안나오게 하기위한 initBoard 수정
 //        placeMines();      // 1. 지뢰 배치
@@ -46,114 +109,184 @@ public class Board {
 
     // ✅ 1. 지뢰 배치
     private void placeMines(int firstRow, int firstCol) { // 첫 셀 클릭
-        int placed = 0;
         int safeZoneSize = countSafeZoneCells(firstRow, firstCol); // safeZone보다 지뢰가 많을 경우 (사용자설정 난이도 추가 대비)
         if (rows * cols - safeZoneSize < mineCount) {
         	throw new IllegalStateException("지뢰 개수가 보드 크기 대비 너무 많습니다.");
         }
         
-        while (placed < mineCount) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            
-            if (isInSafeZone(r, c, firstRow, firstCol)) {continue;}
-            Cell current = cells[r][c];
-            
-            if (current.isMine()) {continue;}
-            MineCell mine = new MineCell(this, r, c); // [NEW] 보드 전달
-            
-            mine.setFlagState(current.getFlagState());
-            mine.setOpened(current.isOpened());
-            cells[r][c] = mine;
-            placed++;
-            }
+        // 추측 없는 모드: 풀리는 배치가 나오는 시드를 찾아 교체 (미리 찾아 둔 시드가 있으면 그대로 사용)
+        if (noGuess && !seedPrepared) {
+            seed = NoGuessGenerator.findSeed(rows, cols, mineCount, firstRow, firstCol, seed, minePlacement);
         }
 
-    // ✅ 2. 빈 칸 채우기
-    private void fillEmptyCells() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c] == null) {
-                	cells[r][c] = new EmptyCell(this, r, c); // [NEW] 보드 전달
-                }
-            }
-        }
+        // 재시도 없는 비복원 추출 (밀도에 따라 Floyd / 선택 추출), 결과 배열 없이 바로 보드에 기록
+        // 판마다 시드로 새 Random을 만들어 같은 시드 + 같은 첫 클릭이면 항상 같은 배치
+        Random random = new Random(seed);
+        minePlacement.place(rows, cols, mineCount, firstRow, firstCol, random, this::placeMineAt);
     }
 
-    // ✅ 3. 인접 지뢰 수 계산
-    private void calculateNearMines() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c] instanceof EmptyCell emptyCell) {
-                	emptyCell.setNearMineCount(0);
-                    int count = 0;
-                    for (int i = 0; i < NEAR_ROW.length; i++) {
-                        int nr = r + NEAR_ROW[i];
-                        int nc = c + NEAR_COL[i];
-                        if (isInBoard(nr, nc) && cells[nr][nc].isMine()) {
-                            count++;
-                        }
-                    }
-                    emptyCell.setNearMineCount(count);
-                }
-            }
+    // 지뢰 하나를 놓으면서 주변 8칸의 지뢰 수를 1씩 올림 → 전체 스캔 없이 O(mines * 8)
+    private void placeMineAt(int cellIndex) {
+        int idx = index(cellIndex / cols, cellIndex % cols);
+        writeState(idx, cellStates[idx] | CellBits.MINE); // 깃발/열림 비트는 그대로 유지
+        for (int offset : nearOffsets) {
+            cellStates[idx + offset]++; // 하위 4비트(지뢰 수)만 증가, 최대 8이라 넘치지 않음
         }
     }
 
     
- // ✅ 셀 열기 (좌클릭 처리)
+ // ✅ 셀 열기 (좌클릭 처리) — 예외 없는 경로: 열린 칸의 압축 인덱스를 opened에 추가하고 결과 코드를 반환
+    public MoveResult tryOpenCell(int r, int c, IntList opened) {
+        if (!isInBoard(r, c)) return MoveResult.IGNORED; // 보드 밖 좌표
+        int idx = index(r, c);
+        int bits = cellStates[idx];
+        if (CellBits.isOpened(bits) || CellBits.hasFlag(bits)) return MoveResult.IGNORED; // 이미 열렸거나 깃발/물음표
+
+        // 첫 클릭 반영한 지뢰 설정
+        safeMinesPlaced(r, c);
+        relocateIfPending(r, c);
+        scheduleZeroRegionIndex();
+        bits = cellStates[idx];
+
+        int from = opened.size();
+        writeState(idx, bits | CellBits.OPENED);
+        opened.add(idx);
+        if (!CellBits.isMine(bits) && CellBits.nearMineCount(bits) == 0) {
+            openedSafeCount += cascadeFrom(idx, opened);
+        }
+        history.push(MoveHistory.Delta.open(opened.toArray(from))); // 이번 조작으로 열린 칸만 기록
+        return CellBits.isMine(bits) ? MoveResult.BOOM : MoveResult.OPENED;
+    }
+
+ // ✅ 셀 열기 — 지뢰를 열면 BoomException을 던지는 기존 방식 (IntList 버전)
+    public void openCell(int r, int c, IntList opened) {
+        if (tryOpenCell(r, c, opened) == MoveResult.BOOM) {
+            throw new GameExceptions.BoomException("지뢰를 클릭했습니다!");
+        }
+    }
+
+ // ✅ 셀 열기 (좌클릭 처리) — 기존 List<Point> API
     public List<Point> openCell(int r, int c) {    	    	
     	List<Point> opened = new ArrayList<>();
 
         if (!isInBoard(r, c)) return opened; // // 보드 밖 좌표
-        Cell cell = cells[r][c];
-        if (cell.isOpened() || cell.getFlagState() != FlagState.NONE) return opened; // // 이미 열렸거나 깃발/물음표
+        int bits = cellStates[index(r, c)];
+        if (CellBits.isOpened(bits) || CellBits.hasFlag(bits)) return opened; // // 이미 열렸거나 깃발/물음표
         
         // 첫 클릭 반영한 지뢰 설정
         safeMinesPlaced(r, c);
-        cell = cells[r][c];
+        relocateIfPending(r, c);
+        scheduleZeroRegionIndex();
         
-        cell.onLeftClick(opened); // 셀 다형성 활용
+        try {
+            getCell(r, c).onLeftClickOrThrow(opened); // 배치 이후 타입으로 만든 셀 뷰의 다형성 활용 (기존 예외 방식 유지)
+        } finally {
+            recordOpened(opened); // 깃발(Cell.nextFlagState)과 같은 기록에 남김 — 지뢰를 열어 예외가 나도 기록
+        }
         return opened;
     }
 
-    // ✅ 연쇄 오픈 (BFS_너비우선탐색 방식)
+    // List<Point> 경로로 열린 칸을 되돌리기 기록 한 건으로
+    private void recordOpened(List<Point> opened) {
+        if (opened.isEmpty()) {return;}
+        int[] cells = new int[opened.size()];
+        for (int i = 0; i < cells.length; i++) {
+            Point p = opened.get(i);
+            cells[i] = index(p.x, p.y);
+        }
+        history.push(MoveHistory.Delta.open(cells));
+    }
+
+    // ✅ 연쇄 오픈 (BFS_너비우선탐색 방식) — FloodFill 결과를 Point로 변환하는 어댑터
     public void cascadeOpen(int r, int c, List<Point> opened) { // 셀에서 직접 호출
-        Queue<Point> queue = new LinkedList<>();
-        queue.add(new Point(r, c));
-
-        while (!queue.isEmpty()) {
-        		Point cur = queue.poll();        	            
-        	for (int i = 0; i < NEAR_ROW.length; i++) {
-                int nr = cur.x + NEAR_ROW[i], nc = cur.y + NEAR_COL[i];
-                if (!isInBoard(nr, nc)) continue;
-
-                Cell neighbor = cells[nr][nc];
-                if (neighbor.isOpened() || neighbor.isMine() || neighbor.getFlagState() != FlagState.NONE) continue;
-
-                neighbor.setOpened(true);
-                opened.add(new Point(nr, nc));
-                
-                // 주변 지뢰가 0이면 계속 확장
-                if (neighbor instanceof EmptyCell e && e.getNearMineCount() == 0) {
-                    queue.add(new Point(nr, nc));
-                }
+        cascadeScratch.clear();
+        openedSafeCount += cascadeFrom(index(r, c), cascadeScratch);
+        for (int i = 0; i < cascadeScratch.size(); i++) {
+            int idx = cascadeScratch.get(i);
+            opened.add(new Point(rowOf(idx), colOf(idx)));
+        }
+    }
+
+    // 방금 연 0 칸 idx에서 연쇄 오픈 — 현재 배치의 0 영역 색인이 있으면 영역 목록으로, 없거나 쓸 수 없으면 BFS로
+    private int cascadeFrom(int idx, IntList opened) {
+        ZeroRegionIndex regions = zeroRegions;
+        if (regions != null && regions.version == layoutVersion) {
+            int openedCount = regions.openRegion(cellStates, idx, opened);
+            if (openedCount >= 0) {return openedCount;}
+        }
+        return floodFill.fill(cellStates, nearOffsets, idx, opened);
+    }
+
+    // 색인 작업 요청 — 요청 시점의 상태 배열과 배치 버전
+    private record IndexRequest(byte[] states, int version) {}
+
+    // 배치가 확정되면(첫 클릭 처리 후) 0 영역 색인을 백그라운드에서 한 번 생성 — 완료 전 클릭은 그대로 BFS
+    // 보드당 대기 중인 요청은 하나뿐: 아직 시작 안 된 요청이 있으면 새 요청으로 덮어쓰고 작업을 더 넣지 않음
+    private void scheduleZeroRegionIndex() {
+        if (!zeroRegionIndexEnabled || !isMinePlaced || relocatePending || indexedVersion == layoutVersion) {return;}
+        if ((long) rows * cols > ZeroRegionIndex.MAX_INDEXED_CELLS) {return;}
+        indexedVersion = layoutVersion;
+        if (pendingIndex.getAndSet(new IndexRequest(cellStates, layoutVersion)) == null) {
+            ZeroRegionIndex.buildAsync(this::buildPendingZeroRegionIndex);
+        }
+    }
+
+    // 색인 작업 스레드에서 실행 — 그 사이 새 판이 시작된 요청은 만들지 않고 버림
+    private void buildPendingZeroRegionIndex() {
+        IndexRequest request = pendingIndex.getAndSet(null);
+        if (request == null || request.version() != layoutVersion) {return;}
+        ZeroRegionIndex built = ZeroRegionIndex.build(request.states(), rows, cols, nearOffsets, request.version());
+        if (request.version() == layoutVersion) {zeroRegions = built;} // 만드는 중에 판이 바뀌었으면 버림 (사용 시에도 버전 확인)
+    }
+
+    // ✅ 코딩(chord, 가운데/양쪽 클릭) — 열린 숫자 칸 주변 깃발 수가 숫자와 같으면 깃발 없는 이웃을 한 번에 오픈
+    // 이웃마다 openCell을 따로 부르지 않고 한 조작으로 처리: 열린 칸은 opened 하나에 모이고 기록도 한 건
+    public MoveResult tryChord(int r, int c, IntList opened) {
+        if (!isInBoard(r, c)) return MoveResult.IGNORED;
+        int idx = index(r, c);
+        int bits = cellStates[idx];
+        if (!CellBits.isOpenedSafe(bits) || CellBits.nearMineCount(bits) == 0) return MoveResult.IGNORED;
+
+        int flagged = 0;
+        for (int offset : nearOffsets) {
+            if (CellBits.isFlagged(cellStates[idx + offset])) {flagged++;} // 테두리는 깃발이 없어 자동 제외
+        }
+        if (flagged != CellBits.nearMineCount(bits)) return MoveResult.IGNORED;
+
+        int from = opened.size();
+        boolean boom = false;
+        for (int offset : nearOffsets) {
+            int near = idx + offset;
+            int nearBits = cellStates[near];
+            if (CellBits.isOpened(nearBits) || CellBits.hasFlag(nearBits)) {continue;} // 테두리/열린 칸/깃발·물음표 제외
+            writeState(near, nearBits | CellBits.OPENED);
+            opened.add(near);
+            if (CellBits.isMine(nearBits)) {
+                boom = true; // 잘못 꽂은 깃발 — 나머지 이웃도 열어 결과를 한 번에 보여줌
+            } else if (CellBits.nearMineCount(nearBits) == 0) {
+                openedSafeCount += cascadeFrom(near, opened);
             }
         }
-    }    
-    
-    
-    
+        if (opened.size() == from) return MoveResult.IGNORED;
+        history.push(MoveHistory.Delta.open(opened.toArray(from)));
+        return boom ? MoveResult.BOOM : MoveResult.OPENED;
+    }
+
+    // 2차원 좌표 → 압축 배열 인덱스
+    private int index(int r, int c) {
+        return (r + 1) * stride + c + 1;
+    }
+
+    // 압축 인덱스 ↔ 좌표 변환 (IntList 결과를 해석하는 UI/호출자용)
+    public int indexOf(int r, int c) { return index(r, c); }
+    public int rowOf(int idx) { return idx / stride - 1; }
+    public int colOf(int idx) { return idx % stride - 1; }
+
     // 유효 범위 확인
     private boolean isInBoard(int r, int c) {
         return r >= 0 && r < rows && c >= 0 && c < cols;
     }
     
-    //첫 클릭 위치를 기준으로 3x3 안전 구역(첫 칸과 인접 8칸)을 설정
-    private boolean isInSafeZone(int r, int c, int firstRow, int firstCol) {
-        return Math.abs(r - firstRow) <= 1 && Math.abs(c - firstCol) <= 1;
-    }
-
     private int countSafeZoneCells(int firstRow, int firstCol) {
         int count = 0;
         for (int dr = -1; dr <= 1; dr++) {
@@ -172,33 +305,242 @@ public class Board {
         if (isMinePlaced) {
             return;
         }
-        placeMines(firstRow, firstCol);
-        calculateNearMines();
+        placeMines(firstRow, firstCol); // 인접 지뢰 수도 배치 중에 함께 계산됨
+        firstClickRow = firstRow;
+        firstClickCol = firstCol;
         isMinePlaced = true;
     }
+
+    // ── 미리 만든 배치(BoardPool) 경로 ──
+    // 생성용 클릭 위치로 지금 바로 지뢰를 배치 — 실제 첫 열기 때 그 클릭 주변 3x3을 비움
+    public void placeMinesFor(int firstRow, int firstCol) {
+        if (isMinePlaced) {return;}
+        safeMinesPlaced(firstRow, firstCol);
+        relocatePending = true;
+    }
+
+    // 풀에서 받은 보드의 배치를 그대로 넘겨받음 (상태 배열을 복사 없이 가져가므로 source는 더 쓰지 않는다)
+    // 첫 클릭 전에 꽂아 둔 깃발/물음표와 되돌리기 기록은 그대로 유지 — 재생(placeLayout)도 같은 보드에 배치만 얹는다
+    public void adoptLayout(Board source) {
+        if (isMinePlaced) {
+            throw new IllegalStateException("지뢰가 이미 배치된 뒤에는 배치를 바꿀 수 없습니다.");
+        }
+        if (source.rows != rows || source.cols != cols || source.mineCount != mineCount || !source.isMinePlaced) {
+            throw new IllegalArgumentException("같은 크기/지뢰 수로 배치된 보드만 넘겨받을 수 있습니다.");
+        }
+        byte[] marks = cellStates; // 배치 전 상태 — 열린 칸은 없고 깃발 비트만 있을 수 있음
+        cellStates = source.cellStates;
+        layoutVersion++; // 이전 배치의 0 영역 색인 무효화
+        zeroRegions = null;
+        openedSafeCount = source.openedSafeCount;
+        flaggedCount = source.flaggedCount;
+        flaggedMineCount = source.flaggedMineCount;
+        openedMineCount = source.openedMineCount;
+        seed = source.seed;
+        firstClickRow = source.firstClickRow;
+        firstClickCol = source.firstClickCol;
+        isMinePlaced = true;
+        seedPrepared = true;
+        relocatePending = source.relocatePending;
+        // 깃발/물음표를 새 배열로 옮김 — writeState를 거쳐 깃발 수/지뢰 위 깃발 수가 새 배치 기준으로 맞춰짐
+        for (int r = 0; r < rows; r++) {
+            for (int idx = index(r, 0), end = idx + cols; idx < end; idx++) {
+                int flag = marks[idx] & CellBits.FLAG_MASK;
+                if (flag != 0) {writeState(idx, cellStates[idx] | flag);}
+            }
+        }
+        source.cellStates = source.newPaddedStates(); // 같은 배열을 두 보드가 공유하지 않도록
+        source.isMinePlaced = false;
+    }
+
+    // 실제 첫 클릭 주변 3x3의 지뢰를 시드로 정한 위치부터 훑어 찾은 빈 칸으로 옮김 (같은 배치 + 같은 클릭이면 같은 결과)
+    private void relocateIfPending(int r, int c) {
+        if (!relocatePending) {return;}
+        relocatePending = false;
+        int total = rows * cols;
+        int cursor = (int) Math.floorMod(seed ^ (seed >>> 32), (long) total);
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                int nr = r + dr, nc = c + dc;
+                if (!isInBoard(nr, nc) || !CellBits.isMine(cellStates[index(nr, nc)])) {continue;}
+                while (CellBits.isMine(cellStates[index(cursor / cols, cursor % cols)])
+                        || (Math.abs(cursor / cols - r) <= 1 && Math.abs(cursor % cols - c) <= 1)) {
+                    cursor = (cursor + 1) % total;
+                }
+                removeMineAt(nr * cols + nc);
+                placeMineAt(cursor);
+            }
+        }
+    }
+
+    private void removeMineAt(int cellIndex) {
+        int idx = index(cellIndex / cols, cellIndex % cols);
+        writeState(idx, cellStates[idx] & ~CellBits.MINE);
+        for (int offset : nearOffsets) {
+            cellStates[idx + offset]--;
+        }
+    }
+
+    // 사양에 시드가 있으면 그대로, 없으면 무작위 시드를 새로 뽑아 기록 (모든 판을 재현 가능하게)
+    private long nextSeed() {
+        return spec.seed() != null ? spec.seed() : seedSource.nextLong();
+    }
+
+    // ── 저장/불러오기(BoardCodec)용 복원 경로 ──
+    // 지정한 시드로 빈 보드 상태를 만든 뒤 restoreMine/setOpened/setFlagState로 상태를 채운다
+    void beginRestore(long seed, int firstRow, int firstCol) {
+        initBoard();
+        this.seed = seed;
+        this.firstClickRow = firstRow;
+        this.firstClickCol = firstCol;
+        this.isMinePlaced = firstRow >= 0;
+    }
+
+    void restoreMine(int r, int c) {
+        placeMineAt(r * cols + c);
+    }
+
+    boolean isRelocatePending() { return relocatePending; }
+    void restoreRelocatePending(boolean pending) { relocatePending = pending; }
+
+    int rawState(int r, int c) {
+        return cellStates[index(r, c)];
+    }
+
+    // ── 같은 패키지 엔진(ConstraintSolver 등)용 압축 배열 직접 접근 ──
+    int stateAt(int idx) { return cellStates[idx]; }
+    int stride() { return stride; }
+    int[] nearOffsets() { return nearOffsets; } // 읽기 전용으로만 사용
+    int paddedLength() { return cellStates.length; }
     
 
-    // 보드 가져오기 (UI나 Controller에서 접근용)
-    public Cell[][] getCells() {return cells;}
+    // 셀 뷰 가져오기 (UI나 Controller에서 접근용) — 호출 시점의 지뢰 여부로 타입이 정해지는 경량 객체
+    public Cell getCell(int r, int c) {
+        return isMine(r, c) ? new MineCell(this, r, c) : new EmptyCell(this, r, c);
+    }
+
+    // 압축 상태 접근자 (셀 뷰가 위임하는 대상)
+    public boolean isMine(int r, int c) { return CellBits.isMine(cellStates[index(r, c)]); }
+    public boolean isOpened(int r, int c) { return CellBits.isOpened(cellStates[index(r, c)]); }
+    public int getNearMineCount(int r, int c) { return CellBits.nearMineCount(cellStates[index(r, c)]); }
+    public FlagState getFlagState(int r, int c) { return CellBits.flagState(cellStates[index(r, c)]); }
+
+    public void setOpened(int r, int c, boolean opened) {
+        int idx = index(r, c);
+        writeState(idx, opened ? cellStates[idx] | CellBits.OPENED : cellStates[idx] & ~CellBits.OPENED);
+    }
+
+    public void setFlagState(int r, int c, FlagState flagState) { // Cell.nextFlagState도 이 경로로 반영
+        int idx = index(r, c);
+        writeState(idx, CellBits.withFlag(cellStates[idx], flagState));
+    }
+
+    // 열림/깃발/지뢰 비트가 바뀌는 모든 쓰기는 여기를 거쳐 카운터를 함께 갱신
+    private void writeState(int idx, int newBits) {
+        int oldBits = cellStates[idx];
+        cellStates[idx] = (byte) newBits;
+        openedSafeCount += bit(CellBits.isOpenedSafe(newBits)) - bit(CellBits.isOpenedSafe(oldBits));
+        flaggedCount += bit(CellBits.isFlagged(newBits)) - bit(CellBits.isFlagged(oldBits));
+        flaggedMineCount += bit(CellBits.isFlagged(newBits) && CellBits.isMine(newBits))
+                - bit(CellBits.isFlagged(oldBits) && CellBits.isMine(oldBits));
+        openedMineCount += bit(CellBits.isOpened(newBits) && CellBits.isMine(newBits))
+                - bit(CellBits.isOpened(oldBits) && CellBits.isMine(oldBits));
+    }
+
+    private static int bit(boolean b) { return b ? 1 : 0; }
+
     // 행/열 반환 (UI용)
     public int getRows() { return rows; }
     public int getCols() { return cols; }
+    public int getMineCount() { return mineCount; }
+    public BoardSpec getSpec() { return spec; }
+    public long getSeed() { return seed; }
+    public int getFirstClickRow() { return firstClickRow; } // 지뢰 배치 전이면 -1
+    public int getFirstClickCol() { return firstClickCol; }
+    public int getFlaggedCount() { return flaggedCount; }
     
  // 깃발 표시 가능 여부 검사
     public void checkFlagLimit() {
-        int flagged = countFlaggedCells();
-        if (flagged >= mineCount) {
-            throw new GameExceptions.InvalidActionException(
-                    String.format("지뢰 개수가 너무 많습니다 (현재 깃발 수: %d / 최대: %d)", flagged, mineCount));
+        if (!canPlaceFlag()) {
+            throw new GameExceptions.InvalidActionException(flagLimitMessage());
         }
     }
 
-    // 현재 깃발 수 계산
+    // 깃발을 하나 더 꽂을 수 있는가 (예외 없는 O(1) 검사)
+    public boolean canPlaceFlag() {
+        verifyCountersIfDebug();
+        return flaggedCount < mineCount;
+    }
+
+    public String flagLimitMessage() {
+        return String.format("지뢰 개수가 너무 많습니다 (현재 깃발 수: %d / 최대: %d)", flaggedCount, mineCount);
+    }
+
+ // ✅ 우클릭 처리 — 예외 없는 경로: NONE → FLAGGED → QUESTION → NONE 순환
+    public MoveResult tryCycleFlag(int r, int c) {
+        if (!isInBoard(r, c)) return MoveResult.IGNORED;
+        int idx = index(r, c);
+        int bits = cellStates[idx];
+        if (CellBits.isOpened(bits)) return MoveResult.IGNORED; // 열린 칸에는 깃발 불가
+
+        FlagState next = switch (CellBits.flagState(bits)) {
+            case NONE -> FlagState.FLAGGED;
+            case FLAGGED -> FlagState.QUESTION;
+            case QUESTION -> FlagState.NONE;
+        };
+        if (next == FlagState.FLAGGED && !canPlaceFlag()) return MoveResult.FLAG_LIMIT;
+        writeState(idx, CellBits.withFlag(bits, next));
+        history.push(MoveHistory.Delta.flag(idx, CellBits.flagState(bits), next));
+        return MoveResult.FLAG_CHANGED;
+    }
+
+    // ✅ 되돌리기 — 마지막 조작의 변경분만 원복 (비용은 그 조작의 칸 수에 비례), 바뀐 칸은 changed에 추가
+    public boolean undo(IntList changed) {
+        MoveHistory.Delta delta = history.popUndo();
+        if (delta == null) {return false;}
+        apply(delta, false, changed);
+        return true;
+    }
+
+    // ✅ 다시 실행 — 되돌린 조작을 같은 변경분으로 재적용
+    public boolean redo(IntList changed) {
+        MoveHistory.Delta delta = history.popRedo();
+        if (delta == null) {return false;}
+        apply(delta, true, changed);
+        return true;
+    }
+
+    private void apply(MoveHistory.Delta delta, boolean forward, IntList changed) {
+        for (int idx : delta.cells()) {
+            int bits = cellStates[idx];
+            if (delta.isOpen()) {
+                writeState(idx, forward ? bits | CellBits.OPENED : bits & ~CellBits.OPENED);
+            } else {
+                writeState(idx, CellBits.withFlag(bits, forward ? delta.flagTo() : delta.flagFrom()));
+            }
+            changed.add(idx);
+        }
+    }
+
+    public boolean canUndo() { return history.canUndo(); }
+    public boolean canRedo() { return history.canRedo(); }
+
+    // 기록 상한: 보관할 조작 수와 저장 칸 수 합계 (0이면 기록하지 않음)
+    public void setHistoryLimit(int maxMoves, int maxCells) {
+        history.setLimits(maxMoves, maxCells);
+    }
+
+    // 지뢰를 연 상태인가 (되돌리기 후 게임 상태 재계산용)
+    public boolean isExploded() {
+        return openedMineCount > 0;
+    }
+
+    // 현재 깃발 수 계산 (전체 스캔 — 디버그 교차 검증용)
     private int countFlaggedCells() {
         int flagged = 0;
         for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getFlagState() == FlagState.FLAGGED) {
+            for (int idx = index(r, 0), end = idx + cols; idx < end; idx++) {
+                if (CellBits.isFlagged(cellStates[idx])) {
                     flagged++;
                 }
             }
@@ -206,25 +548,36 @@ public class Board {
         return flagged;
     }
     
+    // 카운터 기반 O(1) 승리 판정
     public boolean playerWinCheck() {
     	if (!isMinePlaced) {return false;}
-    	
+    	verifyCountersIfDebug();
+
+    	if (flaggedCount != flaggedMineCount) {return false;} // 지뢰가 아닌 칸에 깃발이 있으면 승리 아님
+    	boolean allNonMineOpened = openedSafeCount == rows * cols - mineCount;
+    	boolean allMinesFlagged = flaggedMineCount == mineCount;
+    	return allNonMineOpened || allMinesFlagged;
+    }
+
+    // 전체 스캔 승리 판정 (디버그 교차 검증용)
+    private boolean playerWinCheckByScan() {
         boolean allNonMineOpened = true;
         boolean allMinesFlagged = true;
 
         for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
+            for (int idx = index(r, 0), end = idx + cols; idx < end; idx++) {
+                int bits = cellStates[idx];
+                boolean flagged = CellBits.isFlagged(bits);
 
-                if (cell.isMine()) {
-                    if (cell.getFlagState() != FlagState.FLAGGED) {
+                if (CellBits.isMine(bits)) {
+                    if (!flagged) {
                         allMinesFlagged = false;
                     }
                 } else {
-                    if (cell.getFlagState() == FlagState.FLAGGED) {
+                    if (flagged) {
                         return false; // 지뢰가 아닌 칸에 깃발이 있으면 승리 아님
                     }
-                    if (!cell.isOpened()) {
+                    if (!CellBits.isOpened(bits)) {
                         allNonMineOpened = false;
                     }
                 }
@@ -233,7 +586,92 @@ public class Board {
 
         return allNonMineOpened || allMinesFlagged;
     }
+
+    private void verifyCountersIfDebug() {
+        if (DEBUG_COUNTERS) {verifyCounters();}
+    }
+
+    // 누적 카운터를 전체 스캔 결과와 비교해 어긋나면 즉시 실패
+    void verifyCounters() {
+        int opened = 0, flaggedMines = 0, openedMines = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int idx = index(r, 0), end = idx + cols; idx < end; idx++) {
+                int bits = cellStates[idx];
+                if (CellBits.isOpenedSafe(bits)) {opened++;}
+                if (CellBits.isFlagged(bits) && CellBits.isMine(bits)) {flaggedMines++;}
+                if (CellBits.isOpened(bits) && CellBits.isMine(bits)) {openedMines++;}
+            }
+        }
+        int flagged = countFlaggedCells();
+        if (opened != openedSafeCount || flagged != flaggedCount || flaggedMines != flaggedMineCount
+                || openedMines != openedMineCount) {
+            throw new IllegalStateException(String.format(
+                    "카운터 불일치: opened %d/%d, flagged %d/%d, flaggedMines %d/%d, openedMines %d/%d",
+                    openedSafeCount, opened, flaggedCount, flagged, flaggedMineCount, flaggedMines,
+                    openedMineCount, openedMines));
+        }
+        if (isMinePlaced) {
+            boolean scanned = playerWinCheckByScan();
+            boolean counted = flaggedCount == flaggedMineCount
+                    && (openedSafeCount == rows * cols - mineCount || flaggedMineCount == mineCount);
+            if (scanned != counted) {
+                throw new IllegalStateException("승리 판정 불일치: scan=" + scanned + ", counters=" + counted);
+            }
+        }
+    }
     
+    // 연쇄 오픈을 병렬로 전환하는 기준 칸 수 (0 이하면 항상 순차, 벤치마크/비교용)
+    public void setParallelCascadeThreshold(int threshold) {
+        floodFill.setParallelThreshold(threshold);
+    }
+
+    // 0 영역 색인 사용 여부 (기본 꺼짐, -Dminesweeper.zeroRegionIndex=true로 기본값 변경) — 끄면 항상 BFS
+    // 색인은 칸당 int 두 개 안팎을 더 쓰므로 대화형 게임에서만 켜고 시뮬레이션/풀/검증용 보드는 꺼 둔다
+    public void setZeroRegionIndexEnabled(boolean enabled) {
+        zeroRegionIndexEnabled = enabled;
+        if (!enabled) {
+            pendingIndex.set(null);
+            zeroRegions = null;
+        }
+    }
+
+    // 0 영역 색인이 현재 배치 기준으로 준비됐는지 (벤치마크/테스트 대기용)
+    public boolean isZeroRegionIndexReady() {
+        ZeroRegionIndex regions = zeroRegions;
+        return regions != null && regions.version == layoutVersion;
+    }
+
+    // 지뢰 배치 전략 교체 (벤치마크/비교용, 첫 클릭 전에 호출해야 반영됨)
+    public void setMinePlacement(MinePlacement minePlacement) {
+        this.minePlacement = minePlacement;
+    }
+
+    public MinePlacement getMinePlacement() {
+        return minePlacement;
+    }
+
+    // 추측 없는 배치 모드 (첫 클릭 전에 설정해야 반영됨)
+    public void setNoGuess(boolean noGuess) {
+        this.noGuess = noGuess;
+    }
+
+    public boolean isNoGuess() {
+        return noGuess;
+    }
+
+    // 백그라운드에서 미리 찾은 시드 지정 — 첫 클릭 때 검색 없이 바로 배치
+    public void prepareSeed(long seed) {
+        if (isMinePlaced) {
+            throw new IllegalStateException("지뢰가 이미 배치된 뒤에는 시드를 바꿀 수 없습니다.");
+        }
+        this.seed = seed;
+        this.seedPrepared = true;
+    }
+
+    public boolean isSeedPrepared() {
+        return seedPrepared;
+    }
+
     public boolean getIsMinePlaced() {
         return isMinePlaced;
     }  
@@ -0,0 +1,185 @@
+package com.minesweeper.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.FlagState;
+
+// 보드 상태를 작은 이진 형식으로 저장/복원 (NIO 채널 기반)
+// 헤더 40바이트 + 칸당 4비트(지뢰/열림/깃발/물음표 비트 평면 4장)로, 9x9 보드는 84바이트에 저장된다.
+//
+//   int   magic        'MSWB'
+//   byte  version      1
+//   byte  flags        bit0 = 지뢰 배치 완료, bit1 = 미리 만든 배치(첫 열기 때 3x3 지뢰 이동 대기)
+//   short reserved
+//   int   rows, cols, mines
+//   long  seed
+//   int   firstClickRow, firstClickCol   (배치 전이면 -1)
+//   int   planeBytes   비트 평면 하나의 길이 = ceil(rows * cols / 8)
+//   byte[planeBytes] x 4   mine, opened, flagged, question (행 우선, 각 바이트의 하위 비트부터)
+
+public final class BoardCodec {
+    private static final int MAGIC = 0x4D535742; // "MSWB"
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+    private static final int CHUNK_BYTES = 64 * 1024; // 대형 보드도 고정 크기 버퍼로 스트리밍
+
+    private static final int PLANE_MINE = 0;
+    private static final int PLANE_OPENED = 1;
+    private static final int PLANE_FLAGGED = 2;
+    private static final int PLANE_QUESTION = 3;
+    private static final int PLANE_COUNT = 4;
+
+    private BoardCodec() {} // 인스턴스화 방지
+
+    public static void write(Board board, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(board, channel);
+        }
+    }
+
+    public static Board read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    public static void write(Board board, WritableByteChannel channel) throws IOException {
+        int rows = board.getRows(), cols = board.getCols();
+        int planeBytes = planeBytes(rows, cols);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).put(VERSION).put((byte) ((board.getIsMinePlaced() ? 1 : 0) | (board.isRelocatePending() ? 2 : 0)))
+                .putShort((short) 0);
+        header.putInt(rows).putInt(cols).putInt(board.getMineCount());
+        header.putLong(board.getSeed());
+        header.putInt(board.getFirstClickRow()).putInt(board.getFirstClickCol());
+        header.putInt(planeBytes);
+        header.flip();
+        writeFully(channel, header);
+
+        ByteBuffer chunk = ByteBuffer.allocate(Math.min(CHUNK_BYTES, Math.max(1, planeBytes)));
+        for (int plane = 0; plane < PLANE_COUNT; plane++) {
+            int current = 0, bit = 0;
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (inPlane(plane, board.rawState(r, c))) {current |= 1 << bit;}
+                    if (++bit == 8) {
+                        putByte(channel, chunk, current);
+                        current = 0;
+                        bit = 0;
+                    }
+                }
+            }
+            if (bit > 0) {putByte(channel, chunk, current);}
+            chunk.flip();
+            writeFully(channel, chunk);
+            chunk.clear();
+        }
+    }
+
+    public static Board read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header);
+        header.flip();
+        if (header.getInt() != MAGIC) {throw new IOException("지뢰찾기 보드 파일이 아닙니다.");}
+        byte version = header.get();
+        if (version != VERSION) {throw new IOException("지원하지 않는 보드 파일 버전: " + version);}
+        byte flags = header.get();
+        boolean minesPlaced = (flags & 1) != 0;
+        header.getShort();
+        int rows = header.getInt(), cols = header.getInt(), mines = header.getInt();
+        long seed = header.getLong();
+        int firstRow = header.getInt(), firstCol = header.getInt();
+        int planeBytes = header.getInt();
+
+        BoardSpec spec;
+        try {
+            spec = new BoardSpec(rows, cols, mines); // 시드 없는 사양 — 저장된 시드는 beginRestore가 이번 판에만 적용, 다음 판은 새 무작위 배치
+        } catch (IllegalArgumentException e) {
+            throw new IOException("손상된 보드 헤더: " + e.getMessage(), e);
+        }
+        if (planeBytes != planeBytes(rows, cols)) {throw new IOException("손상된 보드 헤더: 평면 길이 불일치");}
+
+        Board board = new Board(spec);
+        board.beginRestore(seed, minesPlaced ? firstRow : -1, minesPlaced ? firstCol : -1);
+        board.restoreRelocatePending((flags & 2) != 0);
+
+        ByteBuffer chunk = ByteBuffer.allocate(Math.min(CHUNK_BYTES, Math.max(1, planeBytes)));
+        chunk.limit(0); // 비어 있는 상태에서 시작 — 평면들은 바이트 경계로 이어져 있어 버퍼를 공유
+        int restoredMines = 0;
+        for (int plane = 0; plane < PLANE_COUNT; plane++) {
+            int current = 0, bit = 8;
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (bit == 8) {
+                        current = nextByte(channel, chunk);
+                        bit = 0;
+                    }
+                    if ((current >>> bit++ & 1) == 0) {continue;}
+                    switch (plane) {
+                        case PLANE_MINE -> {
+                            board.restoreMine(r, c);
+                            restoredMines++;
+                        }
+                        case PLANE_OPENED -> board.setOpened(r, c, true);
+                        case PLANE_FLAGGED -> board.setFlagState(r, c, FlagState.FLAGGED);
+                        default -> board.setFlagState(r, c, FlagState.QUESTION);
+                    }
+                }
+            }
+        }
+        if (minesPlaced && restoredMines != mines) {
+            throw new IOException(String.format("손상된 보드: 지뢰 수 불일치 (%d / %d)", restoredMines, mines));
+        }
+        return board;
+    }
+
+    private static boolean inPlane(int plane, int bits) {
+        return switch (plane) {
+            case PLANE_MINE -> CellBits.isMine(bits);
+            case PLANE_OPENED -> CellBits.isOpened(bits);
+            case PLANE_FLAGGED -> CellBits.flagState(bits) == FlagState.FLAGGED;
+            default -> CellBits.flagState(bits) == FlagState.QUESTION;
+        };
+    }
+
+    private static int planeBytes(int rows, int cols) {
+        return (int) (((long) rows * cols + 7) / 8);
+    }
+
+    private static void putByte(WritableByteChannel channel, ByteBuffer chunk, int value) throws IOException {
+        if (!chunk.hasRemaining()) {
+            chunk.flip();
+            writeFully(channel, chunk);
+            chunk.clear();
+        }
+        chunk.put((byte) value);
+    }
+
+    private static int nextByte(ReadableByteChannel channel, ByteBuffer chunk) throws IOException {
+        if (!chunk.hasRemaining()) {
+            chunk.clear();
+            if (channel.read(chunk) < 0) {throw new IOException("보드 파일이 예상보다 짧습니다.");}
+            chunk.flip();
+        }
+        return chunk.get() & 0xFF;
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {channel.write(buffer);}
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {throw new IOException("보드 파일이 예상보다 짧습니다.");}
+        }
+    }
+}
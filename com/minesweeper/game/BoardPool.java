@@ -0,0 +1,208 @@
+package com.minesweeper.game;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.minesweeper.common.BoardSpec;
+
+// 지뢰가 이미 배치된 보드를 작업 스레드에서 미리 만들어 두고 첫 클릭 때 바로 건네주는 풀
+// 보드를 한 변 최대 REGIONS_PER_SIDE개 구역으로 나누고 구역 중심을 생성용 클릭으로 삼아 (사양, 추측 없음 여부, 구역)별로 보관한다.
+// 실제 클릭 주변 3x3의 지뢰는 Board가 첫 열기 때 결정적으로 옮기므로 안전 구역 규칙은 어떤 클릭에서도 유지되고,
+// 추측 없는 보드는 생성한 작업 스레드가 구역 중심에서 가까운 칸부터 MAX_VERIFIED_CLICKS개까지 '그 칸을 첫 클릭으로 풀리는가'를 미리 검증해
+// 비트셋으로 함께 보관하고, 꺼낼 때는 비트만 확인한다 (UI 스레드에서 솔버를 돌리지 않음). 검증된 보드가 없으면 null.
+// 시드가 고정된 사양은 (시드, 첫 클릭)으로 재현돼야 하므로 풀을 쓰지 않는다.
+// 보관은 마지막으로 prefill한 (사양, 추측 없음 여부)만 — 다른 사양의 큐는 그때 버리고, 한 장이 칸 수 상한을 넘는 사양은 풀을 쓰지 않는다.
+
+public final class BoardPool {
+    private static final int REGIONS_PER_SIDE = 3;
+    private static final long MAX_POOLED_CELLS = 64L * 1024 * 1024; // 풀 전체가 보관할 칸 수 상한 (칸당 1바이트)
+    private static final int MAX_VERIFIED_CLICKS = 64; // 추측 없는 보드 한 장당 미리 검증할 첫 클릭 칸 수
+
+    // 풀 상태 지표
+    public record Metrics(int pooled, long hits, long misses, double hitRate, double avgGenerationMillis) {
+        @Override
+        public String toString() {
+            return String.format("pooled=%d, hits=%d, misses=%d, hitRate=%.1f%%, avgGeneration=%.2f ms",
+                    pooled, hits, misses, hitRate * 100, avgGenerationMillis);
+        }
+    }
+
+    private record Key(int rows, int cols, int mines, boolean noGuess, int regionRow, int regionCol) {}
+
+    // 보관 중인 보드 — verified는 추측 없는 보드에서 풀리는 것으로 확인된 구역 내 칸 (구역 기준 행 우선 인덱스), 일반 보드는 null
+    private record Pooled(Board board, BitSet verified) {}
+
+    private final int depthPerRegion;
+    private final ExecutorService workers;
+    private final Map<Key, Queue<Pooled>> ready = new ConcurrentHashMap<>();
+    private final Set<Key> scheduled = ConcurrentHashMap.newKeySet(); // 생성 작업이 걸려 있는 구역
+    private volatile Key current; // 지금 보관하는 (사양, 추측 없음 여부) — 구역 필드는 쓰지 않음
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+    private final LongAdder generated = new LongAdder(), generationNanos = new LongAdder();
+
+    public BoardPool(int depthPerRegion, int threads) {
+        this.depthPerRegion = depthPerRegion;
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "board-pool");
+            thread.setDaemon(true); // 창을 닫으면 생성 중이어도 종료
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    // 사양의 모든 구역을 목표 개수까지 백그라운드로 채움 — 이전 사양의 보드는 버림
+    public void prefill(BoardSpec spec, boolean noGuess) {
+        if (spec.seed() != null) {return;}
+        current = new Key(spec.rows(), spec.cols(), spec.mines(), noGuess, 0, 0);
+        ready.keySet().removeIf(key -> !isCurrent(key));
+        int regions = regionCount(spec);
+        for (int rr = 0; rr < regions; rr++) {
+            for (int rc = 0; rc < regions; rc++) {
+                refill(new Key(spec.rows(), spec.cols(), spec.mines(), noGuess, rr, rc), spec);
+            }
+        }
+    }
+
+    // 첫 클릭 (r, c)에 쓸 배치된 보드 (없으면 null — 호출자가 평소처럼 즉석 배치하거나 추측 없는 배치를 백그라운드로 찾음)
+    // 솔버는 돌리지 않고, 추측 없는 보드는 미리 검증된 칸인지 비트만 확인
+    public Board take(BoardSpec spec, boolean noGuess, int r, int c) {
+        if (spec.seed() != null) {return null;}
+        int regions = regionCount(spec);
+        Key key = new Key(spec.rows(), spec.cols(), spec.mines(), noGuess,
+                r * regions / spec.rows(), c * regions / spec.cols());
+        Queue<Pooled> queue = ready.get(key);
+        Board found = null;
+        if (queue != null) {
+            int local = localClick(key, spec, r, c);
+            for (Iterator<Pooled> it = queue.iterator(); found == null && it.hasNext(); ) {
+                Pooled candidate = it.next();
+                if (candidate.verified() != null && !candidate.verified().get(local)) {continue;}
+                if (queue.remove(candidate)) {found = candidate.board();} // 다른 스레드가 먼저 꺼내 갔으면 다음 후보
+            }
+        }
+        (found != null ? hits : misses).increment();
+        refill(key, spec);
+        return found;
+    }
+
+    public Metrics metrics() {
+        long h = hits.sum(), m = misses.sum(), g = generated.sum();
+        int pooled = ready.values().stream().mapToInt(Queue::size).sum();
+        return new Metrics(pooled, h, m, h + m == 0 ? 0 : (double) h / (h + m),
+                g == 0 ? 0 : generationNanos.sum() / 1e6 / g);
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // 구역 하나를 목표 개수까지 채우는 작업 예약 (구역당 작업은 하나만, 현재 사양만)
+    private void refill(Key key, BoardSpec spec) {
+        if (!isCurrent(key) || targetDepth(spec) == 0 || !scheduled.add(key)) {return;}
+        workers.execute(() -> fill(key, spec));
+    }
+
+    // 채우는 도중 사양이 바뀌면 멈추고, 그 사이 만든 보드와 큐는 버림
+    private void fill(Key key, BoardSpec spec) {
+        Queue<Pooled> queue = ready.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+        try {
+            while (isCurrent(key) && queue.size() < targetDepth(spec) && !Thread.currentThread().isInterrupted()) {
+                queue.add(generate(key, spec));
+            }
+        } finally {
+            scheduled.remove(key);
+        }
+        if (!isCurrent(key)) { // prefill의 정리와 엇갈려 다시 들어간 큐 제거
+            ready.remove(key, queue);
+            return;
+        }
+        // 마지막 검사와 예약 해제 사이에 꺼내 간 보드가 있으면 다시 예약
+        if (queue.size() < targetDepth(spec) && !Thread.currentThread().isInterrupted()) {refill(key, spec);}
+    }
+
+    private boolean isCurrent(Key key) {
+        Key now = current;
+        return now != null && now.rows() == key.rows() && now.cols() == key.cols()
+                && now.mines() == key.mines() && now.noGuess() == key.noGuess();
+    }
+
+    // 구역 중심을 생성용 클릭으로 배치 완료된 보드 생성 (추측 없는 보드는 첫 클릭 후보 칸 검증까지)
+    private Pooled generate(Key key, BoardSpec spec) {
+        long start = System.nanoTime();
+        int regions = regionCount(spec);
+        int row = (2 * key.regionRow() + 1) * spec.rows() / (2 * regions);
+        int col = (2 * key.regionCol() + 1) * spec.cols() / (2 * regions);
+        Board board = new Board(spec);
+        BitSet verified = null;
+        if (key.noGuess()) {
+            board.prepareSeed(NoGuessGenerator.findSeed(spec.rows(), spec.cols(), spec.mines(), row, col,
+                    board.getSeed(), board.getMinePlacement()));
+            verified = verifyClicks(key, spec, board.getSeed(), board.getMinePlacement(), row, col);
+        }
+        board.placeMinesFor(row, col);
+        generated.increment();
+        generationNanos.add(System.nanoTime() - start);
+        return new Pooled(board, verified);
+    }
+
+    // 구역 중심에서 가까운 칸부터(체비쇼프 거리 순) MAX_VERIFIED_CLICKS개까지 그 칸을 첫 클릭으로 추측 없이 풀리는지 검증
+    private static BitSet verifyClicks(Key key, BoardSpec spec, long seed, MinePlacement placement, int row, int col) {
+        int regions = regionCount(spec);
+        int top = regionStart(key.regionRow(), spec.rows(), regions), bottom = regionStart(key.regionRow() + 1, spec.rows(), regions);
+        int left = regionStart(key.regionCol(), spec.cols(), regions), right = regionStart(key.regionCol() + 1, spec.cols(), regions);
+        BitSet verified = new BitSet();
+        int checked = 0;
+        for (int d = 0; checked < MAX_VERIFIED_CLICKS && (row - d >= top || row + d < bottom || col - d >= left || col + d < right); d++) {
+            for (int r = Math.max(top, row - d); r <= Math.min(bottom - 1, row + d); r++) {
+                for (int c = Math.max(left, col - d); c <= Math.min(right - 1, col + d) && checked < MAX_VERIFIED_CLICKS; c++) {
+                    if (Math.max(Math.abs(r - row), Math.abs(c - col)) != d) {continue;} // 이번 거리의 테두리 칸만
+                    if (Thread.currentThread().isInterrupted()) {return verified;}
+                    checked++;
+                    if (NoGuessGenerator.isLayoutSolvable(spec.rows(), spec.cols(), spec.mines(), seed, placement, row, col, r, c)) {
+                        verified.set(localClick(key, spec, r, c));
+                    }
+                }
+            }
+        }
+        return verified;
+    }
+
+    // 구역 안 칸 (r, c)의 구역 기준 행 우선 인덱스
+    private static int localClick(Key key, BoardSpec spec, int r, int c) {
+        int regions = regionCount(spec);
+        int top = regionStart(key.regionRow(), spec.rows(), regions);
+        int left = regionStart(key.regionCol(), spec.cols(), regions);
+        int width = regionStart(key.regionCol() + 1, spec.cols(), regions) - left;
+        return (r - top) * width + (c - left);
+    }
+
+    // 구역 index의 첫 행(열) — r * regions / size == index 인 가장 작은 r
+    private static int regionStart(int index, int size, int regions) {
+        return (index * size + regions - 1) / regions;
+    }
+
+    // 한 변의 구역 수 — 구역마다 한 장도 둘 수 없을 만큼 큰 보드는 구역 하나(중앙)만
+    private static int regionCount(BoardSpec spec) {
+        int regions = Math.max(1, Math.min(REGIONS_PER_SIDE, Math.min(spec.rows(), spec.cols()) / 3));
+        return paddedCells(spec) * regions * regions > MAX_POOLED_CELLS ? 1 : regions;
+    }
+
+    // 구역당 목표 개수 — 큰 보드는 메모리 상한 안에서 줄이고, 한 장도 상한을 넘으면 0 (풀을 쓰지 않음)
+    private int targetDepth(BoardSpec spec) {
+        int regions = regionCount(spec);
+        long affordable = MAX_POOLED_CELLS / (paddedCells(spec) * regions * regions);
+        return (int) Math.min(depthPerRegion, affordable);
+    }
+
+    private static long paddedCells(BoardSpec spec) {
+        return (long) (spec.rows() + 2) * (spec.cols() + 2);
+    }
+}
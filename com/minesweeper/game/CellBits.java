@@ -0,0 +1,35 @@
+package com.minesweeper.game;
+
+import com.minesweeper.common.FlagState;
+
+// 셀 하나의 상태를 1바이트로 압축해 표현하는 비트 레이아웃과 헬퍼를 제공
+// 하위 4비트는 주변 지뢰 수(0~8), 그 위로 지뢰/열림 비트, 최상위 2비트는 깃발 상태(FlagState ordinal)
+
+final class CellBits {
+    static final int COUNT_MASK = 0x0F;
+    static final int MINE = 0x10;
+    static final int OPENED = 0x20;
+    static final int FLAG_SHIFT = 6;
+    static final int FLAG_MASK = 0xC0;
+
+    private static final FlagState[] FLAG_STATES = FlagState.values(); // values() 복사 방지용 캐시
+    private static final int FLAGGED_ORDINAL = FlagState.FLAGGED.ordinal();
+
+    private CellBits() {} // 인스턴스화 방지
+
+    static boolean isMine(int bits) { return (bits & MINE) != 0; }
+    static boolean isOpened(int bits) { return (bits & OPENED) != 0; }
+    static int nearMineCount(int bits) { return bits & COUNT_MASK; }
+    static int flagOrdinal(int bits) { return (bits & FLAG_MASK) >>> FLAG_SHIFT; }
+    static boolean hasFlag(int bits) { return (bits & FLAG_MASK) != 0; } // 깃발 또는 물음표
+    static boolean isFlagged(int bits) { return flagOrdinal(bits) == FLAGGED_ORDINAL; } // 물음표 제외
+    static boolean isOpenedSafe(int bits) { return (bits & (MINE | OPENED)) == OPENED; }
+
+    static FlagState flagState(int bits) {
+        return FLAG_STATES[flagOrdinal(bits)];
+    }
+
+    static int withFlag(int bits, FlagState state) {
+        return (bits & ~FLAG_MASK) | (state.ordinal() << FLAG_SHIFT);
+    }
+}
@@ -0,0 +1,197 @@
+package com.minesweeper.game;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.FlagState;
+import com.minesweeper.common.MoveResult;
+
+// 여러 플레이어가 같은 보드를 동시에 누르는 협동 모드용 스레드 안전 보드
+// Board와 같은 칸당 1바이트 압축 상태(CellBits)와 패딩 배열을 쓰되, 모든 상태 변경을 VarHandle CAS로 처리해 락 없이 동작한다.
+//   - 지뢰 배치: 첫 열기를 요청한 스레드 중 하나만 배치하고(이중 확인 + volatile 공개), 나머지는 끝날 때까지 기다림
+//   - 열기/연쇄: 칸의 OPENED 비트를 CAS로 켠 스레드만 그 칸을 "소유"해 결과에 넣고 이웃으로 확장
+//     → 서로 다른 영역의 연쇄는 병렬로 진행되고, 겹치는 연쇄도 같은 칸을 두 번 열지 않는다
+//   - 깃발: 칸 상태 CAS + 깃발 수 상한을 넘지 않는 원자적 증가
+// Board의 되돌리기/저널/힌트는 단일 플레이어 기능이라 여기서는 제공하지 않는다.
+
+public class ConcurrentBoard {
+    private static final VarHandle STATE = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int rows, cols, mineCount, stride;
+    private final int[] nearOffsets;
+    private final byte[] cellStates; // 인덱스 = (r + 1) * stride + c + 1, 테두리는 열림
+    private final long seed;
+    private final MinePlacement minePlacement;
+
+    private final Object placementLock = new Object();
+    private volatile boolean isMinePlaced; // 배치 결과(일반 쓰기)를 다른 스레드에 공개하는 울타리
+
+    private final AtomicInteger openedSafeCount = new AtomicInteger();
+    private final AtomicInteger openedMineCount = new AtomicInteger();
+    private final AtomicInteger flaggedCount = new AtomicInteger();
+    private final AtomicInteger flaggedMineCount = new AtomicInteger();
+
+    public ConcurrentBoard(BoardSpec spec) {
+        this(spec, MinePlacement.AUTO);
+    }
+
+    public ConcurrentBoard(BoardSpec spec, MinePlacement minePlacement) {
+        this.rows = spec.rows();
+        this.cols = spec.cols();
+        this.mineCount = spec.mines();
+        this.stride = cols + 2;
+        this.nearOffsets = new int[] {-stride - 1, -stride, -stride + 1, -1, 1, stride - 1, stride, stride + 1};
+        this.seed = spec.seed() != null ? spec.seed() : new Random().nextLong();
+        this.minePlacement = minePlacement;
+        this.cellStates = new byte[(rows + 2) * stride];
+        Arrays.fill(cellStates, 0, stride, (byte) CellBits.OPENED);
+        Arrays.fill(cellStates, (rows + 1) * stride, cellStates.length, (byte) CellBits.OPENED);
+        for (int r = 1; r <= rows; r++) {
+            cellStates[r * stride] = CellBits.OPENED;
+            cellStates[r * stride + cols + 1] = CellBits.OPENED;
+        }
+    }
+
+    // 첫 열기에서 단 한 번만 배치 — 먼저 락을 잡은 스레드의 클릭 위치가 안전 구역이 된다
+    private void placeMinesOnce(int firstRow, int firstCol) {
+        if (isMinePlaced) {return;}
+        synchronized (placementLock) {
+            if (isMinePlaced) {return;}
+            // 배치 중에도 다른 스레드가 깃발을 바꿀 수 있어 비트 갱신은 원자적 연산으로
+            minePlacement.place(rows, cols, mineCount, firstRow, firstCol, new Random(seed), cellIndex -> {
+                int idx = (cellIndex / cols + 1) * stride + cellIndex % cols + 1;
+                byte before = (byte) STATE.getAndBitwiseOr(cellStates, idx, (byte) CellBits.MINE);
+                if (CellBits.isFlagged(before)) {flaggedMineCount.incrementAndGet();} // 배치 전에 꽂힌 깃발
+                for (int offset : nearOffsets) {
+                    STATE.getAndAdd(cellStates, idx + offset, (byte) 1);
+                }
+            });
+            isMinePlaced = true; // volatile 쓰기 — 배치 결과가 모두 보인 뒤 공개됨
+        }
+    }
+
+    // ✅ 열기 — 이 호출이 실제로 연 칸만 opened에 추가 (다른 스레드가 먼저 연 칸은 제외)
+    public MoveResult open(int r, int c, IntList opened) {
+        if (!isInBoard(r, c)) {return MoveResult.IGNORED;}
+        placeMinesOnce(r, c);
+        int idx = index(r, c);
+        int bits = claimOpen(idx);
+        if (bits < 0) {return MoveResult.IGNORED;}
+        opened.add(idx);
+        if (CellBits.isMine(bits)) {
+            openedMineCount.incrementAndGet();
+            return MoveResult.BOOM;
+        }
+        int openedSafe = 1;
+        if (CellBits.nearMineCount(bits) == 0) {
+            openedSafe += cascade(idx, opened);
+        }
+        openedSafeCount.addAndGet(openedSafe); // 연쇄 전체를 한 번에 반영해 카운터 경합을 줄임
+        return MoveResult.OPENED;
+    }
+
+    // 닫혀 있고 깃발이 없으면 OPENED 비트를 CAS로 켜고 이전 상태를 반환, 이미 열렸거나 깃발이면 -1
+    private int claimOpen(int idx) {
+        while (true) {
+            byte bits = (byte) STATE.getVolatile(cellStates, idx);
+            if (CellBits.isOpened(bits) || CellBits.hasFlag(bits)) {return -1;}
+            if (STATE.compareAndSet(cellStates, idx, bits, (byte) (bits | CellBits.OPENED))) {return bits;}
+        }
+    }
+
+    // 스택 기반 연쇄 — 이웃마다 CAS로 소유권을 얻은 칸만 확장하므로 다른 스레드의 연쇄와 겹쳐도 안전
+    private int cascade(int start, IntList opened) {
+        IntList stack = new IntList();
+        stack.add(start);
+        int count = 0;
+        while (!stack.isEmpty()) {
+            int cur = stack.removeLast();
+            for (int offset : nearOffsets) {
+                int next = cur + offset;
+                int bits = claimOpen(next); // 테두리/열린 칸/깃발 칸은 제외 (0 칸의 이웃이라 지뢰는 없음)
+                if (bits < 0) {continue;}
+                opened.add(next);
+                count++;
+                if (CellBits.nearMineCount(bits) == 0) {stack.add(next);}
+            }
+        }
+        return count;
+    }
+
+    // ✅ 깃발 순환 NONE → FLAGGED → QUESTION → NONE (깃발 수 상한은 원자적으로 검사)
+    public MoveResult cycleFlag(int r, int c) {
+        if (!isInBoard(r, c)) {return MoveResult.IGNORED;}
+        int idx = index(r, c);
+        while (true) {
+            byte bits = (byte) STATE.getVolatile(cellStates, idx);
+            if (CellBits.isOpened(bits)) {return MoveResult.IGNORED;}
+            FlagState next = switch (CellBits.flagState(bits)) {
+                case NONE -> FlagState.FLAGGED;
+                case FLAGGED -> FlagState.QUESTION;
+                case QUESTION -> FlagState.NONE;
+            };
+            if (next == FlagState.FLAGGED && !reserveFlag()) {return MoveResult.FLAG_LIMIT;}
+            if (STATE.compareAndSet(cellStates, idx, bits, (byte) CellBits.withFlag(bits, next))) {
+                boolean mine = CellBits.isMine(bits);
+                if (next == FlagState.QUESTION) { // 깃발 해제
+                    flaggedCount.decrementAndGet();
+                    if (mine) {flaggedMineCount.decrementAndGet();}
+                } else if (next == FlagState.FLAGGED && mine) {
+                    flaggedMineCount.incrementAndGet();
+                }
+                return MoveResult.FLAG_CHANGED;
+            }
+            if (next == FlagState.FLAGGED) {flaggedCount.decrementAndGet();} // 다른 스레드가 먼저 바꿈 — 예약 반환 후 재시도
+        }
+    }
+
+    // 상한 안에서만 깃발 수를 하나 늘림
+    private boolean reserveFlag() {
+        while (true) {
+            int current = flaggedCount.get();
+            if (current >= mineCount) {return false;}
+            if (flaggedCount.compareAndSet(current, current + 1)) {return true;}
+        }
+    }
+
+    // O(1) 승리 판정 (Board.playerWinCheck와 같은 규칙)
+    public boolean playerWinCheck() {
+        if (!isMinePlaced || isExploded()) {return false;}
+        int flagged = flaggedCount.get(), flaggedMines = flaggedMineCount.get();
+        if (flagged != flaggedMines) {return false;}
+        return openedSafeCount.get() == rows * cols - mineCount || flaggedMines == mineCount;
+    }
+
+    public boolean isExploded() { return openedMineCount.get() > 0; }
+
+    // 상태 조회 (다른 스레드의 최신 쓰기를 보도록 acquire 읽기)
+    private int state(int r, int c) { return (byte) STATE.getAcquire(cellStates, index(r, c)); }
+    public boolean isMine(int r, int c) { return CellBits.isMine(state(r, c)); }
+    public boolean isOpened(int r, int c) { return CellBits.isOpened(state(r, c)); }
+    public int getNearMineCount(int r, int c) { return CellBits.nearMineCount(state(r, c)); }
+    public FlagState getFlagState(int r, int c) { return CellBits.flagState(state(r, c)); }
+
+    public int indexOf(int r, int c) { return index(r, c); }
+    public int rowOf(int idx) { return idx / stride - 1; }
+    public int colOf(int idx) { return idx % stride - 1; }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int getMineCount() { return mineCount; }
+    public long getSeed() { return seed; }
+    public int getOpenedSafeCount() { return openedSafeCount.get(); }
+    public int getFlaggedCount() { return flaggedCount.get(); }
+    public boolean getIsMinePlaced() { return isMinePlaced; }
+
+    private int index(int r, int c) {
+        return (r + 1) * stride + c + 1;
+    }
+
+    private boolean isInBoard(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+}
@@ -0,0 +1,219 @@
+package com.minesweeper.game;
+
+import java.util.BitSet;
+
+// 화면에 보이는 정보(열린 숫자 칸)만으로 확실한 안전 칸/지뢰를 찾는 제약 전파 솔버 — 힌트 API
+// 숫자 칸 하나가 "주변 미확정 칸 U 중 m개가 지뢰"라는 제약이며, 두 규칙을 고정점까지 반복한다.
+//   단일 칸 규칙: m == 0 이면 U 전부 안전, m == |U| 이면 U 전부 지뢰
+//   부분집합 규칙: U_A ⊆ U_B 이면 U_B - U_A 에는 m_B - m_A 개의 지뢰 (0 또는 전부면 확정)
+// U는 제약 칸을 중심으로 한 7x7 창의 비트마스크(long)로 표현해 부분집합 검사가 비트 연산 몇 번으로 끝난다.
+// 증분 방식: 바뀐 칸(onCellsChanged)과 새로 확정된 칸 주변의 숫자 칸만 작업 큐에 넣으므로 힌트 비용은 보드 크기와 무관하다.
+// 플레이어의 깃발은 틀릴 수 있어 사용하지 않고, 솔버가 스스로 확정한 지뢰만 센다.
+
+public class ConstraintSolver {
+    static final byte UNKNOWN = 0, SAFE = 1, MINE = 2;
+    private static final int WINDOW = 7, CENTER = 3; // 7x7 창, 중심 (3,3)
+
+    // 힌트 결과: mine이면 깃발을 꽂을 칸, 아니면 안전하게 열 수 있는 칸
+    public record Hint(int row, int col, boolean mine) {}
+
+    private final Board board;
+    private final int stride;
+    private final int[] nearOffsets;
+    private final byte[] known;              // 솔버가 확정한 사실 (패딩 인덱스), 되돌리기 후에도 참
+    private final BitSet frontier = new BitSet(); // 미확정 이웃이 남은 숫자 칸
+    private final BitSet queued = new BitSet();   // 작업 큐 중복 방지
+    private final IntList work = new IntList();   // 다시 검사할 숫자 칸
+    private final IntList safeHints = new IntList(), mineHints = new IntList(); // 아직 반영되지 않은 확정 칸
+    private int knownCount, knownMineCount; // 확정된 칸 수 (열린 칸 포함) / 그중 지뢰 수
+
+    // 지금까지 열린 칸을 한 번 훑어 따라잡은 뒤부터는 onCellsChanged로 증분 갱신
+    public ConstraintSolver(Board board) {
+        this.board = board;
+        this.stride = board.stride();
+        this.nearOffsets = board.nearOffsets();
+        this.known = new byte[board.paddedLength()];
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int idx = board.indexOf(r, 0), end = idx + board.getCols(); idx < end; idx++) {
+                int bits = board.stateAt(idx);
+                if (!CellBits.isOpened(bits)) {continue;}
+                learn(idx, CellBits.isMine(bits) ? MINE : SAFE);
+                if (isConstraint(idx)) {enqueue(idx);}
+            }
+        }
+    }
+
+    // 조작으로 상태가 바뀐 칸 전달 (열린 칸, 되돌리기로 닫힌 칸, 깃발이 바뀐 칸 모두 가능)
+    public void onCellsChanged(IntList changed) {
+        for (int i = 0; i < changed.size(); i++) {
+            cellChanged(changed.get(i));
+        }
+    }
+
+    public void onCellChanged(int r, int c) {
+        cellChanged(board.indexOf(r, c));
+    }
+
+    private void cellChanged(int idx) {
+        int bits = board.stateAt(idx);
+        if (!CellBits.isOpened(bits)) {
+            // 되돌리기로 다시 닫혔거나 깃발이 바뀐 칸 — 확정 사실은 그대로이므로 힌트 후보로 복귀
+            if (known[idx] == SAFE) {safeHints.add(idx);}
+            if (known[idx] == MINE) {mineHints.add(idx);}
+            return;
+        }
+        if (isConstraint(idx)) {enqueue(idx);}
+        if (known[idx] == UNKNOWN) { // 확정되지 않았던 칸이 열리면 주변 숫자 칸의 미확정 집합이 줄어듦
+            learn(idx, CellBits.isMine(bits) ? MINE : SAFE);
+            enqueueNeighbors(idx);
+        }
+    }
+
+    // 다음 힌트: 안전 칸 우선, 없으면 확정 지뢰, 논리만으로 진행 불가면 null
+    public Hint nextHint() {
+        propagate();
+        while (!safeHints.isEmpty()) {
+            int idx = safeHints.get(safeHints.size() - 1);
+            if (!CellBits.isOpened(board.stateAt(idx))) {return hint(idx, false);}
+            safeHints.removeLast(); // 이미 열린 칸
+        }
+        while (!mineHints.isEmpty()) {
+            int idx = mineHints.get(mineHints.size() - 1);
+            int bits = board.stateAt(idx);
+            if (!CellBits.isOpened(bits) && !CellBits.isFlagged(bits)) {return hint(idx, true);}
+            mineHints.removeLast(); // 이미 깃발이 있거나 열린 칸
+        }
+        return null;
+    }
+
+    private Hint hint(int idx, boolean mine) {
+        return new Hint(board.rowOf(idx), board.colOf(idx), mine);
+    }
+
+    // 확정 여부 조회 (확률 솔버 등 다른 엔진과 공유)
+    public boolean isKnownSafe(int r, int c) { propagate(); return known[board.indexOf(r, c)] == SAFE; }
+    public boolean isKnownMine(int r, int c) { propagate(); return known[board.indexOf(r, c)] == MINE; }
+
+    // 작업 큐가 빌 때까지 두 규칙 적용
+    public void propagate() {
+        while (!work.isEmpty()) {
+            int a = work.removeLast();
+            queued.clear(a);
+            long maskA = isConstraint(a) ? unknownMask(a, 0, 0) : 0; // 되돌리기로 다시 닫힌 칸은 제약 아님
+            if (maskA == 0) {
+                frontier.clear(a);
+                continue;
+            }
+            frontier.set(a);
+            int minesA = remainingMines(a);
+            int sizeA = Long.bitCount(maskA);
+            if (minesA == 0) {
+                mark(a, maskA, SAFE);
+            } else if (minesA == sizeA) {
+                mark(a, maskA, MINE);
+            } else {
+                applySubsetRule(a, maskA, minesA);
+            }
+        }
+    }
+
+    // 거리 2 이내의 다른 경계 숫자 칸 B와 비교 (U가 겹칠 수 있는 유일한 범위)
+    // 도중에 확정된 칸이 생겨도 (U_A, m_A)는 여전히 참인 제약이고, A는 다시 큐에 들어가 새 마스크로 재검사된다.
+    private void applySubsetRule(int a, long maskA, int minesA) {
+        for (int dr = -2; dr <= 2; dr++) {
+            for (int dc = -2; dc <= 2; dc++) {
+                if (dr == 0 && dc == 0) {continue;}
+                int b = a + dr * stride + dc;
+                if (b < 0 || b >= known.length || !frontier.get(b) || !isConstraint(b)) {continue;} // 되돌리기로 닫힌 칸 제외
+                long maskB = unknownMask(b, dr, dc);
+                if ((maskA & ~maskB) == 0) { // U_A ⊆ U_B
+                    settleDifference(a, maskB & ~maskA, remainingMines(b) - minesA);
+                } else if ((maskB & ~maskA) == 0) { // U_B ⊆ U_A
+                    settleDifference(a, maskA & ~maskB, minesA - remainingMines(b));
+                }
+            }
+        }
+    }
+
+    private void settleDifference(int a, long diff, int mines) {
+        if (diff == 0) {return;}
+        if (mines == 0) {
+            mark(a, diff, SAFE);
+        } else if (mines == Long.bitCount(diff)) {
+            mark(a, diff, MINE);
+        }
+    }
+
+    // 제약 칸 c(A 기준 (dr,dc) 위치)의 미확정 이웃을 A 중심 7x7 창 비트로 표현
+    private long unknownMask(int c, int dr, int dc) {
+        long mask = 0;
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                if (i == 0 && j == 0) {continue;}
+                int n = c + i * stride + j;
+                if (known[n] == UNKNOWN && !CellBits.isOpened(board.stateAt(n))) { // 테두리는 열림 상태라 제외
+                    mask |= 1L << ((dr + i + CENTER) * WINDOW + (dc + j + CENTER));
+                }
+            }
+        }
+        return mask;
+    }
+
+    // 숫자 - 확정된 주변 지뢰 수
+    private int remainingMines(int c) {
+        int mines = CellBits.nearMineCount(board.stateAt(c));
+        for (int offset : nearOffsets) {
+            if (known[c + offset] == MINE) {mines--;}
+        }
+        return mines;
+    }
+
+    // A 중심 창의 비트들을 실제 인덱스로 되돌려 확정하고, 영향받는 숫자 칸을 큐에 넣음
+    private void mark(int a, long mask, byte fact) {
+        while (mask != 0) {
+            int bit = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int idx = a + (bit / WINDOW - CENTER) * stride + (bit % WINDOW - CENTER);
+            if (known[idx] != UNKNOWN) {continue;}
+            learn(idx, fact);
+            (fact == SAFE ? safeHints : mineHints).add(idx);
+            enqueueNeighbors(idx);
+        }
+    }
+
+    private void learn(int idx, byte fact) {
+        known[idx] = fact;
+        knownCount++;
+        if (fact == MINE) {knownMineCount++;}
+    }
+
+    // ── ProbabilitySolver용 조회 (propagate() 이후 호출) ──
+    BitSet frontier() { return frontier; }
+    boolean isUndetermined(int idx) { return known[idx] == UNKNOWN && !CellBits.isOpened(board.stateAt(idx)); }
+    int remainingMinesAt(int idx) { return remainingMines(idx); }
+    boolean isConstraintCell(int idx) { return isConstraint(idx); }
+    byte knownAt(int idx) { return known[idx]; }
+    int getKnownCount() { return knownCount; }
+    int getKnownMineCount() { return knownMineCount; }
+
+    private void enqueueNeighbors(int idx) {
+        for (int offset : nearOffsets) {
+            int n = idx + offset;
+            if (isConstraint(n)) {enqueue(n);}
+        }
+    }
+
+    private void enqueue(int idx) {
+        if (queued.get(idx)) {return;}
+        queued.set(idx);
+        work.add(idx);
+    }
+
+    // 열린 비지뢰 숫자 칸만 제약이 됨 (테두리도 지뢰 수가 올라가므로 좌표로 제외)
+    private boolean isConstraint(int idx) {
+        int r = idx / stride, c = idx % stride;
+        if (r < 1 || r > board.getRows() || c < 1 || c > board.getCols()) {return false;}
+        int bits = board.stateAt(idx);
+        return CellBits.isOpenedSafe(bits) && CellBits.nearMineCount(bits) > 0;
+    }
+}
@@ -0,0 +1,258 @@
+package com.minesweeper.game;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.minesweeper.common.FlagState;
+import com.minesweeper.common.MoveResult;
+
+// 끝없는 보드 모드 — 보드를 CHUNK_SIZE x CHUNK_SIZE 청크로 나눠 처음 접근할 때만 만든다
+// 칸의 지뢰 여부는 (시드, 행, 열)만으로 정해지는 순수 함수라 청크는 언제 다시 만들어도 같은 배치가 나온다.
+// 아직 아무도 건드리지 않은 청크는 크기가 정해진 LRU 캐시에 두고 오래 안 쓰면 버리며,
+// 열거나 깃발을 꽂은 청크만 계속 보관하므로 메모리는 탐험한 넓이에 비례한다.
+// 칸 상태는 Board와 같은 CellBits 1바이트 레이아웃이고, 좌표는 int 범위 전체(음수 포함)를 쓴다.
+
+public final class EndlessBoard {
+    static final int CHUNK_SHIFT = 6;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 64 x 64 = 청크당 4KB
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // 0 칸이 무한히 이어지면 연쇄 오픈이 끝나지 않으므로 0 칸 비율 (1 - 밀도)^9이 8방향 스며듦 임계값(약 0.407)보다 충분히 낮아야 한다
+    public static final double MIN_DENSITY = 0.12;
+    public static final double MAX_DENSITY = 0.5;
+    public static final double DEFAULT_DENSITY = 0.16;
+    public static final int DEFAULT_CACHED_CHUNKS = 256;
+
+    private final long seed;
+    private final long mineThreshold;    // 칸 해시(상위 53비트)가 이 값보다 작으면 지뢰
+    private final int cachedChunkLimit;
+
+    private final Map<Long, Chunk> explored = new HashMap<>(); // 열림/깃발이 있는 청크 (버리지 않음)
+    private final LinkedHashMap<Long, Chunk> cache;           // 손대지 않은 청크 (접근 순서 LRU)
+
+    private boolean started;            // 첫 열기 이후 — 그 주변 3x3은 지뢰가 없도록 배치에 반영됨
+    private int firstRow, firstCol;
+    private boolean exploded;
+    private long openedSafeCount, flaggedCount, generatedChunks;
+
+    private final IntList work = new IntList(); // 연쇄 오픈용 (행, 열) 쌍 스택
+    private Chunk lastChunk;                    // 연쇄 중 같은 청크를 연달아 조회할 때 맵 조회 생략
+
+    public EndlessBoard(long seed) {
+        this(seed, DEFAULT_DENSITY, DEFAULT_CACHED_CHUNKS);
+    }
+
+    public EndlessBoard(long seed, double mineDensity, int cachedChunkLimit) {
+        if (!(mineDensity >= MIN_DENSITY && mineDensity <= MAX_DENSITY)) {
+            throw new IllegalArgumentException("지뢰 밀도는 " + MIN_DENSITY + " ~ " + MAX_DENSITY + " 사이여야 합니다: " + mineDensity);
+        }
+        if (cachedChunkLimit < 1) {
+            throw new IllegalArgumentException("캐시 청크 수는 1 이상이어야 합니다: " + cachedChunkLimit);
+        }
+        this.seed = seed;
+        this.mineThreshold = (long) (mineDensity * (1L << 53));
+        this.cachedChunkLimit = cachedChunkLimit;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                return size() > EndlessBoard.this.cachedChunkLimit; // 손대지 않은 청크는 다시 만들면 똑같으므로 버려도 됨
+            }
+        };
+    }
+
+    // ✅ 셀 열기 — 새로 연 칸을 (행, 열) 쌍으로 opened에 차례로 추가하고 결과 코드를 반환
+    public MoveResult tryOpenCell(int r, int c, IntList opened) {
+        if (exploded) return MoveResult.IGNORED;
+        if (!started) {start(r, c);}
+
+        Chunk chunk = chunkAt(r, c);
+        int local = localIndex(r, c);
+        int bits = chunk.states[local];
+        if (CellBits.isOpened(bits) || CellBits.hasFlag(bits)) return MoveResult.IGNORED;
+
+        open(chunk, local, r, c, opened);
+        if (CellBits.isMine(bits)) {
+            exploded = true;
+            return MoveResult.BOOM;
+        }
+        if (CellBits.nearMineCount(bits) == 0) {cascade(r, c, opened);}
+        return MoveResult.OPENED;
+    }
+
+    // ✅ 깃발 순환 (🚩 → ❓ → 빈칸) — 끝없는 보드는 지뢰 총수가 없어 깃발 수 제한도 없다
+    public MoveResult tryCycleFlag(int r, int c) {
+        if (exploded) return MoveResult.IGNORED;
+        Chunk chunk = chunkAt(r, c);
+        int local = localIndex(r, c);
+        int bits = chunk.states[local];
+        if (CellBits.isOpened(bits)) return MoveResult.IGNORED;
+
+        FlagState next = switch (CellBits.flagState(bits)) {
+            case NONE -> FlagState.FLAGGED;
+            case FLAGGED -> FlagState.QUESTION;
+            case QUESTION -> FlagState.NONE;
+        };
+        flaggedCount += (next == FlagState.FLAGGED ? 1 : 0) - (CellBits.isFlagged(bits) ? 1 : 0);
+        chunk.states[local] = (byte) CellBits.withFlag(bits, next);
+        touch(chunk);
+        return MoveResult.FLAG_CHANGED;
+    }
+
+    // BFS 대신 스택으로 0 칸을 넓혀 감 (열리는 칸 집합은 같음), 청크 경계를 넘을 때만 맵 조회
+    private void cascade(int r, int c, IntList opened) {
+        work.clear();
+        work.add(r);
+        work.add(c);
+        while (!work.isEmpty()) {
+            int cc = work.removeLast(), cr = work.removeLast();
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    if (dr == 0 && dc == 0) {continue;}
+                    int nr = cr + dr, nc = cc + dc;
+                    Chunk chunk = chunkAt(nr, nc);
+                    int local = localIndex(nr, nc);
+                    int bits = chunk.states[local];
+                    if (CellBits.isOpened(bits) || CellBits.isMine(bits) || CellBits.hasFlag(bits)) {continue;}
+                    open(chunk, local, nr, nc, opened);
+                    if (CellBits.nearMineCount(bits) == 0) {
+                        work.add(nr);
+                        work.add(nc);
+                    }
+                }
+            }
+        }
+    }
+
+    private void open(Chunk chunk, int local, int r, int c, IntList opened) {
+        int bits = chunk.states[local];
+        chunk.states[local] = (byte) (bits | CellBits.OPENED);
+        if (!CellBits.isMine(bits)) {openedSafeCount++;}
+        touch(chunk);
+        opened.add(r);
+        opened.add(c);
+    }
+
+    // 첫 열기 위치를 배치에 반영 — 그 전에 만들어 둔 청크는 지뢰/숫자를 다시 계산 (깃발은 유지)
+    private void start(int r, int c) {
+        started = true;
+        firstRow = r;
+        firstCol = c;
+        cache.clear();
+        lastChunk = null;
+        for (Map.Entry<Long, Chunk> entry : explored.entrySet()) {
+            long key = entry.getKey();
+            byte[] layout = generate((int) (key >> 32), (int) key);
+            byte[] states = entry.getValue().states;
+            for (int i = 0; i < states.length; i++) {
+                states[i] = (byte) ((states[i] & CellBits.FLAG_MASK) | layout[i]);
+            }
+        }
+    }
+
+    // ── 청크 관리 ──
+    private Chunk chunkAt(int r, int c) {
+        int chunkRow = r >> CHUNK_SHIFT, chunkCol = c >> CHUNK_SHIFT; // 산술 시프트라 음수 좌표도 아래쪽 청크로 내림
+        long key = chunkKey(chunkRow, chunkCol);
+        if (lastChunk != null && lastChunk.key == key) {return lastChunk;} // 캐시에서 버려졌어도 내용은 같으므로 그대로 사용 가능
+        Chunk chunk = explored.get(key);
+        if (chunk == null) {chunk = cache.get(key);}
+        if (chunk == null) {
+            chunk = new Chunk(key, generate(chunkRow, chunkCol));
+            cache.put(key, chunk);
+            generatedChunks++;
+        }
+        lastChunk = chunk;
+        return chunk;
+    }
+
+    // 처음 열리거나 깃발이 꽂힌 청크를 캐시에서 꺼내 보관 목록으로 옮김
+    private void touch(Chunk chunk) {
+        if (chunk.touched) {return;}
+        chunk.touched = true;
+        cache.remove(chunk.key);
+        explored.put(chunk.key, chunk);
+    }
+
+    // 청크 하나의 지뢰/인접 수 비트 생성 — 청크 둘레 한 칸까지 지뢰를 계산해 경계 칸의 숫자도 이웃 청크 없이 구함
+    private byte[] generate(int chunkRow, int chunkCol) {
+        int baseRow = chunkRow << CHUNK_SHIFT, baseCol = chunkCol << CHUNK_SHIFT;
+        int span = CHUNK_SIZE + 2;
+        boolean[] mines = new boolean[span * span];
+        for (int i = 0; i < span; i++) {
+            for (int j = 0; j < span; j++) {
+                mines[i * span + j] = isMineAt(baseRow + i - 1, baseCol + j - 1);
+            }
+        }
+        byte[] states = new byte[CHUNK_SIZE * CHUNK_SIZE];
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            for (int j = 0; j < CHUNK_SIZE; j++) {
+                int center = (i + 1) * span + j + 1;
+                int count = 0;
+                for (int dr = -span; dr <= span; dr += span) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if ((dr != 0 || dc != 0) && mines[center + dr + dc]) {count++;}
+                    }
+                }
+                states[i * CHUNK_SIZE + j] = (byte) (count | (mines[center] ? CellBits.MINE : 0));
+            }
+        }
+        return states;
+    }
+
+    // (시드, 행, 열) → 지뢰 여부 — 첫 열기 주변 3x3은 항상 안전
+    private boolean isMineAt(int r, int c) {
+        if (started && Math.abs((long) r - firstRow) <= 1 && Math.abs((long) c - firstCol) <= 1) {return false;}
+        return (mix64(seed ^ mix64(chunkKey(r, c))) >>> 11) < mineThreshold;
+    }
+
+    private static long chunkKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static int localIndex(int r, int c) {
+        return (r & CHUNK_MASK) * CHUNK_SIZE + (c & CHUNK_MASK);
+    }
+
+    // splitmix64 최종 혼합 — 인접 좌표도 서로 무관한 값으로 흩어짐
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // ── 조회 (UI/호출자용) — 읽기만 해서는 청크가 보관 목록으로 옮겨지지 않는다 ──
+    public boolean isOpened(int r, int c) { return CellBits.isOpened(stateAt(r, c)); }
+    public FlagState getFlagState(int r, int c) { return CellBits.flagState(stateAt(r, c)); }
+    public int getNearMineCount(int r, int c) { return CellBits.nearMineCount(stateAt(r, c)); }
+    public boolean isMine(int r, int c) { return CellBits.isMine(stateAt(r, c)); }
+
+    private int stateAt(int r, int c) {
+        return chunkAt(r, c).states[localIndex(r, c)];
+    }
+
+    public long getSeed() { return seed; }
+    public boolean isStarted() { return started; }
+    public boolean isExploded() { return exploded; }
+    public long getOpenedSafeCount() { return openedSafeCount; } // 끝없는 모드의 점수
+    public long getFlaggedCount() { return flaggedCount; }
+    public int getExploredChunkCount() { return explored.size(); }
+    public int getCachedChunkCount() { return cache.size(); }
+    public long getGeneratedChunkCount() { return generatedChunks; } // 캐시에서 버린 뒤 다시 만든 횟수 포함
+
+    // 보관 중인 청크의 대략적인 메모리 (상태 배열 기준)
+    public long getResidentBytes() {
+        return (long) (explored.size() + cache.size()) * CHUNK_SIZE * CHUNK_SIZE;
+    }
+
+    private static final class Chunk {
+        final long key;
+        final byte[] states;
+        boolean touched;
+
+        Chunk(long key, byte[] states) {
+            this.key = key;
+            this.states = states;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.minesweeper.game;
+
+// 연쇄 오픈(BFS)을 담당하는 엔진으로, 압축 인덱스를 담는 int 링 버퍼를 재사용해 Point/큐 노드 할당 없이 동작
+// Board가 하나씩 보유하며, 열린 칸은 호출자가 넘긴 IntList에 인덱스로 기록한다.
+// 상태 배열은 '열림' 테두리로 패딩되어 있어 주변 칸을 인덱스 차이만으로 범위 검사 없이 조회한다.
+// 한 번의 연쇄로 parallelThreshold개 이상 열리면 남은 큐를 ParallelFloodFill에 넘겨 병렬로 마무리한다 (결과 집합은 동일).
+
+final class FloodFill {
+    // -Dminesweeper.parallelCascade=<칸 수> 로 병렬 전환 기준 조정 (0 이하면 항상 순차)
+    static final int DEFAULT_PARALLEL_THRESHOLD = Integer.getInteger("minesweeper.parallelCascade", 1 << 18);
+
+    private int[] ring = new int[64]; // 크기는 항상 2의 거듭제곱 (mask 연산용)
+    private int head, size;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    // start 칸 주변부터 확장하며 닫힌 비지뢰·무깃발 칸을 열고, 주변 지뢰가 0인 칸은 계속 큐에 넣는다
+    // 새로 연 칸 수를 반환 (Board의 열린 칸 카운터 갱신용)
+    int fill(byte[] states, int[] nearOffsets, int start, IntList opened) {
+        int openedCount = 0;
+        head = 0;
+        size = 0;
+        push(start);
+
+        while (size > 0) {
+            if (parallelThreshold > 0 && openedCount >= parallelThreshold) {
+                return openedCount + ParallelFloodFill.fill(states, nearOffsets, drain(), size, opened);
+            }
+            int cur = ring[head];
+            head = (head + 1) & (ring.length - 1);
+            size--;
+
+            for (int offset : nearOffsets) {
+                int idx = cur + offset;
+                int bits = states[idx];
+                if (CellBits.isOpened(bits) || CellBits.isMine(bits) || CellBits.hasFlag(bits)) continue;
+
+                states[idx] = (byte) (bits | CellBits.OPENED);
+                opened.add(idx);
+                openedCount++;
+
+                // 주변 지뢰가 0이면 계속 확장
+                if (CellBits.nearMineCount(bits) == 0) {
+                    push(idx);
+                }
+            }
+        }
+        return openedCount;
+    }
+
+    private void push(int idx) {
+        if (size == ring.length) {
+            grow();
+        }
+        ring[(head + size) & (ring.length - 1)] = idx;
+        size++;
+    }
+
+    // 남은 큐를 순서대로 배열로 꺼냄 (병렬 단계의 시작 프런티어)
+    private int[] drain() {
+        int[] frontier = new int[size];
+        for (int i = 0; i < size; i++) {
+            frontier[i] = ring[(head + i) & (ring.length - 1)];
+        }
+        return frontier;
+    }
+
+    // 꽉 찬 링을 두 배 크기 배열에 순서대로 펼쳐 담는다
+    private void grow() {
+        int[] next = new int[ring.length * 2];
+        int firstPart = ring.length - head;
+        System.arraycopy(ring, head, next, 0, firstPart);
+        System.arraycopy(ring, 0, next, firstPart, head);
+        ring = next;
+        head = 0;
+    }
+}
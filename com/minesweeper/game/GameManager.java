@@ -1,30 +1,222 @@
-//package com.minesweeper.game;
-//
-//import com.minesweeper.common.Difficulty;
-//import com.minesweeper.common.GameState;
-
-// 게임 진행을 중앙에서 제어하려 했으나 진행중 현재 이 파일은 안쓰는 중
-//public class GameManager {
-//    private Board board;
-//    private GameState state;
-//    private Difficulty difficulty;
-//
-//    public GameManager(Difficulty diff) {
-//        this.difficulty = diff;
-//        this.board = new Board(diff);
-//        this.state = GameState.READY;
-//    }
-//
-//    public void startGame() {
-//        board.initBoard();
-//        state = GameState.PLAYING;
-//    }
-//
-//    public GameState getState() {
-//        return state;
-//    }
-//
-//    public Board getBoard() {
-//        return board;
-//    }
-//}
+package com.minesweeper.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.Difficulty;
+import com.minesweeper.common.GameState;
+import com.minesweeper.common.MoveResult;
+
+// Swing 없이 게임 한 판의 진행(시작, 열기, 깃발, 승리/패배)을 제어하는 헤드리스 엔진
+// Board와 GameState 상태 머신을 보유하며, 조작 결과는 예외 대신 MoveResult 코드로 돌려준다.
+// 상태 전이: READY --첫 열기--> PLAYING --지뢰--> LOST / --모든 칸 해결--> WON (종료 후 조작은 IGNORED)
+
+public class GameManager {
+    private final Board board;
+    private GameState state;
+    private final IntList lastOpened = new IntList(); // 마지막 열기로 열린 칸 (조작마다 재사용)
+    private MoveJournal journal; // 조작 기록기 (없으면 null)
+    private long journaledSeed; // 저널에 마지막으로 기록한 시드
+    private ConstraintSolver solver; // 첫 힌트 요청 때 생성, 이후 조작마다 증분 갱신
+
+    public GameManager(Difficulty diff) {
+        this(new Board(diff));
+    }
+
+    public GameManager(BoardSpec spec) {
+        this(new Board(spec));
+    }
+
+    public GameManager(Board board) {
+        this.board = board;
+        this.state = GameState.READY;
+    }
+
+    // 새 판 시작 (같은 크기로 보드 초기화)
+    public void startGame() {
+        board.initBoard();
+        lastOpened.clear();
+        solver = null;
+        journaledSeed = board.getSeed();
+        state = GameState.READY;
+        if (journal != null) {
+            try {
+                journal.recordGameStart(board.getSpec(), board.getSeed());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 좌클릭: 열린 칸은 getLastOpened()로 조회
+    public MoveResult open(int r, int c) {
+        lastOpened.clear();
+        if (isFinished()) {return MoveResult.IGNORED;}
+
+        MoveResult result = apply(board.tryOpenCell(r, c, lastOpened));
+        if (solver != null) {solver.onCellsChanged(lastOpened);}
+        if (board.getSeed() != journaledSeed) {recordSeed();} // 추측 없는 모드에서 첫 클릭 때 교체된 시드
+        record(MoveJournal.OPEN, r, c, result);
+        return result;
+    }
+
+    // 가운데/양쪽 클릭: 이웃을 한 번에 열고 승리 판정도 한 번만
+    public MoveResult chord(int r, int c) {
+        lastOpened.clear();
+        if (isFinished()) {return MoveResult.IGNORED;}
+
+        MoveResult result = apply(board.tryChord(r, c, lastOpened));
+        if (solver != null) {solver.onCellsChanged(lastOpened);}
+        record(MoveJournal.CHORD, r, c, result);
+        return result;
+    }
+
+    // 우클릭: 깃발 → 물음표 → 없음 순환
+    public MoveResult toggleFlag(int r, int c) {
+        lastOpened.clear();
+        if (isFinished()) {return MoveResult.IGNORED;}
+
+        MoveResult result = apply(board.tryCycleFlag(r, c));
+        if (solver != null) {solver.onCellChanged(r, c);}
+        record(MoveJournal.FLAG, r, c, result);
+        return result;
+    }
+
+    // 힌트: 보이는 정보만으로 확실한 칸 하나 (첫 클릭 전이거나 논리로 진행 불가면 null)
+    public ConstraintSolver.Hint hint() {
+        if (!board.getIsMinePlaced() || isFinished()) {return null;}
+        return getSolver().nextHint();
+    }
+
+    // 확실한 칸이 없을 때: 칸별 지뢰 확률 계산 (스냅숏 후 백그라운드 풀에서 진행, 시간 예산 내 근사 허용)
+    public CompletableFuture<ProbabilitySolver.Result> probabilitiesAsync(long budgetMillis) {
+        return new ProbabilitySolver(board, getSolver()).solveAsync(budgetMillis);
+    }
+
+    public ConstraintSolver getSolver() {
+        if (solver == null) {solver = new ConstraintSolver(board);}
+        return solver;
+    }
+
+    // 되돌리기: 마지막 조작의 변경분을 원복하고 상태를 다시 계산 (지뢰를 연 조작도 되돌릴 수 있음)
+    public boolean undo() {
+        lastOpened.clear();
+        boolean done = board.undo(lastOpened);
+        recordHistory(MoveJournal.UNDO, done);
+        return done;
+    }
+
+    // 다시 실행: 되돌린 조작을 재적용 (바뀐 칸은 getLastOpened()로 조회)
+    public boolean redo() {
+        lastOpened.clear();
+        boolean done = board.redo(lastOpened);
+        recordHistory(MoveJournal.REDO, done);
+        return done;
+    }
+
+    private void recordHistory(byte type, boolean done) {
+        if (done && solver != null) {solver.onCellsChanged(lastOpened);}
+        if (done) {
+            state = board.isExploded() ? GameState.LOST
+                    : board.playerWinCheck() ? GameState.WON
+                    : GameState.PLAYING;
+        }
+        if (journal == null) {return;}
+        try {
+            journal.recordHistory(type, done);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 보드 조작 결과를 상태 머신에 반영하고 승리 여부를 덧붙임
+    private MoveResult apply(MoveResult result) {
+        switch (result) {
+            case BOOM -> {
+                state = GameState.LOST;
+                return result;
+            }
+            case OPENED -> state = GameState.PLAYING;
+            case FLAG_CHANGED -> {} // 깃발로는 게임이 시작되지 않음 (지뢰 배치 전)
+            default -> {return result;}
+        }
+        if (board.playerWinCheck()) {
+            state = GameState.WON;
+            return MoveResult.WON;
+        }
+        return result;
+    }
+
+    private void recordSeed() {
+        journaledSeed = board.getSeed();
+        if (journal == null) {return;}
+        try {
+            journal.recordSeed(board.getSeed());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 풀에서 받은 미리 만든 배치를 이번 판에 적용 (첫 열기 전에만)
+    public void adoptLayout(Board pooled) {
+        board.adoptLayout(pooled);
+        recordLayout();
+    }
+
+    // 시드 + 생성용 클릭으로 배치를 다시 만듦 (재생용 — adoptLayout과 같은 결과)
+    public void placeLayout(long seed, int layoutRow, int layoutCol) {
+        board.prepareSeed(seed);
+        board.placeMinesFor(layoutRow, layoutCol);
+        recordLayout();
+    }
+
+    private void recordLayout() {
+        journaledSeed = board.getSeed();
+        if (journal == null) {return;}
+        try {
+            journal.recordLayout(board.getSeed(), board.getFirstClickRow(), board.getFirstClickCol());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 추측 없는 모드의 첫 클릭용 시드를 백그라운드에서 찾음 (결과는 board.prepareSeed로 지정)
+    public CompletableFuture<Long> findNoGuessSeedAsync(int r, int c) {
+        return NoGuessGenerator.findSeedAsync(board.getRows(), board.getCols(), board.getMineCount(),
+                r, c, board.getSeed(), board.getMinePlacement());
+    }
+
+    // 조작을 저널에 기록하고, 판이 끝나면 버퍼를 파일로 내보냄
+    private void record(byte type, int r, int c, MoveResult result) {
+        if (journal == null) {return;}
+        try {
+            journal.recordMove(type, r, c, result);
+            if (isFinished()) {journal.flush();}
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 다음 startGame()부터 조작을 기록 (null이면 기록 중단)
+    public void setJournal(MoveJournal journal) {
+        this.journal = journal;
+    }
+
+    public boolean isFinished() {
+        return state == GameState.WON || state == GameState.LOST;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public IntList getLastOpened() {
+        return lastOpened;
+    }
+}
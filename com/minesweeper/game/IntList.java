@@ -0,0 +1,57 @@
+package com.minesweeper.game;
+
+import java.util.Arrays;
+
+// 박싱 없이 int 값을 순차적으로 모으는 가변 길이 리스트
+// 셀 오픈 결과(압축 인덱스)를 담아 재사용하기 위한 용도로, clear() 후 내부 배열을 그대로 다시 쓴다.
+
+public final class IntList {
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int initialCapacity) {
+        this.values = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        }
+        return values[i];
+    }
+
+    // 스택처럼 마지막 값을 꺼냄
+    public int removeLast() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("empty list");
+        }
+        return values[--size];
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { size = 0; } // 용량은 유지해 다음 클릭에서 재할당 방지
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    // from 이후 구간만 복사 (호출자가 넘긴 리스트에 이번 조작분만 덧붙였을 때)
+    public int[] toArray(int from) {
+        if (from < 0 || from > size) {
+            throw new IndexOutOfBoundsException("from " + from + ", size " + size);
+        }
+        return Arrays.copyOfRange(values, from, size);
+    }
+}
@@ -0,0 +1,153 @@
+package com.minesweeper.game;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+// 첫 클릭 3x3 안전 구역을 제외한 칸 중에서 지뢰 위치(r * cols + c 인덱스)를 고르는 전략 모음
+// 안전 구역을 뺀 후보 공간을 0..available-1로 보고 뽑은 뒤 skipSafeZone으로 실제 인덱스에 대응시킨다.
+// 뽑은 위치는 결과 배열 없이 IntConsumer로 바로 넘겨 10,000 x 10,000 보드에서도 추가 메모리를 최소화한다.
+
+public enum MinePlacement {
+    // 기존 방식: 무작위 좌표를 뽑아 안전 구역/중복이면 다시 뽑음 (밀도가 높을수록 재시도 폭증)
+    REJECTION {
+        @Override
+        public void place(int rows, int cols, int mines, int firstRow, int firstCol, Random random, IntConsumer sink) {
+            BitSet taken = new BitSet(rows * cols);
+            int placed = 0;
+            while (placed < mines) {
+                int r = random.nextInt(rows);
+                int c = random.nextInt(cols);
+                if (Math.abs(r - firstRow) <= 1 && Math.abs(c - firstCol) <= 1) {continue;}
+                int idx = r * cols + c;
+                if (taken.get(idx)) {continue;}
+                taken.set(idx);
+                sink.accept(idx);
+                placed++;
+            }
+        }
+    },
+    // Floyd 알고리즘: 정확히 mines번 난수를 뽑아 비복원 추출, 희소 보드용 (메모리 O(mines))
+    FLOYD {
+        @Override
+        public void place(int rows, int cols, int mines, int firstRow, int firstCol, Random random, IntConsumer sink) {
+            int[] safeZone = safeZone(rows, cols, firstRow, firstCol);
+            int available = rows * cols - safeZone.length;
+            IntHashSet chosen = new IntHashSet(mines);
+            for (int j = available - mines; j < available; j++) {
+                int t = random.nextInt(j + 1);
+                if (!chosen.add(t)) { // t가 이미 뽑혔다면 j는 이전 단계에서 뽑힐 수 없던 값
+                    t = j;
+                    chosen.add(j);
+                }
+                sink.accept(skipSafeZone(t, safeZone));
+            }
+        }
+    },
+    // 부분 Fisher–Yates: 후보 배열 앞쪽 mines칸만 섞어 추출, 밀집 보드용 (메모리 O(available))
+    FISHER_YATES {
+        @Override
+        public void place(int rows, int cols, int mines, int firstRow, int firstCol, Random random, IntConsumer sink) {
+            int[] safeZone = safeZone(rows, cols, firstRow, firstCol);
+            int available = rows * cols - safeZone.length;
+            int[] pool = new int[available];
+            for (int i = 0; i < available; i++) {pool[i] = i;}
+            for (int i = 0; i < mines; i++) {
+                int j = i + random.nextInt(available - i);
+                int tmp = pool[i];
+                pool[i] = pool[j];
+                pool[j] = tmp;
+            }
+            for (int i = 0; i < mines; i++) {sink.accept(skipSafeZone(pool[i], safeZone));}
+        }
+    },
+    // 선택 표본 추출(Knuth Algorithm S): 후보를 순서대로 한 번 훑으며 남은 지뢰/남은 후보 확률로 선택
+    // 시간 O(available), 추가 메모리 O(1) — 밀집한 초대형 보드용
+    SELECTION_SCAN {
+        @Override
+        public void place(int rows, int cols, int mines, int firstRow, int firstCol, Random random, IntConsumer sink) {
+            int[] safeZone = safeZone(rows, cols, firstRow, firstCol);
+            int total = rows * cols;
+            int remainingCandidates = total - safeZone.length;
+            int remainingMines = mines;
+            int zone = 0;
+            for (int idx = 0; idx < total && remainingMines > 0; idx++) {
+                if (zone < safeZone.length && safeZone[zone] == idx) { // 정렬된 안전 구역은 건너뜀
+                    zone++;
+                    continue;
+                }
+                if (random.nextInt(remainingCandidates) < remainingMines) {
+                    sink.accept(idx);
+                    remainingMines--;
+                }
+                remainingCandidates--;
+            }
+        }
+    },
+    // 밀도에 따라 FLOYD / SELECTION_SCAN 자동 선택 (기본값)
+    AUTO {
+        @Override
+        public void place(int rows, int cols, int mines, int firstRow, int firstCol, Random random, IntConsumer sink) {
+            select(rows, cols, mines).place(rows, cols, mines, firstRow, firstCol, random, sink);
+        }
+    };
+
+    // 지뢰 비율이 이 값 이하이면 Floyd(해시셋, 지뢰당 약 16바이트)가 보드 자체(칸당 1바이트)보다 적은 메모리로 O(mines)에 끝남
+    // 그보다 밀집하면 한 번 훑는 선택 추출이 추가 메모리 없이 더 빠름
+    static final double DENSE_THRESHOLD = 1.0 / 16;
+
+    // 서로 다른 인덱스(r * cols + c) mines개를 sink에 넘기며, 안전 구역은 포함하지 않는다
+    public abstract void place(int rows, int cols, int mines, int firstRow, int firstCol, Random random, IntConsumer sink);
+
+    public static MinePlacement select(int rows, int cols, int mines) {
+        return mines > (double) rows * cols * DENSE_THRESHOLD ? SELECTION_SCAN : FLOYD;
+    }
+
+    // 보드 안에 있는 안전 구역 칸의 인덱스를 오름차순으로 반환 (최대 9개)
+    static int[] safeZone(int rows, int cols, int firstRow, int firstCol) {
+        int[] zone = new int[9];
+        int n = 0;
+        for (int r = firstRow - 1; r <= firstRow + 1; r++) {
+            for (int c = firstCol - 1; c <= firstCol + 1; c++) {
+                if (r >= 0 && r < rows && c >= 0 && c < cols) {zone[n++] = r * cols + c;}
+            }
+        }
+        return Arrays.copyOf(zone, n);
+    }
+
+    // 후보 공간의 k번째 값을 안전 구역을 건너뛴 실제 인덱스로 변환 (정렬된 제외 목록을 한 번 훑음)
+    static int skipSafeZone(int k, int[] sortedSafeZone) {
+        int idx = k;
+        for (int excluded : sortedSafeZone) {
+            if (idx >= excluded) {idx++;}
+        }
+        return idx;
+    }
+
+    // Floyd 추출용 최소 오픈 어드레싱 int 집합 (박싱 없는 HashSet 대용)
+    private static final class IntHashSet {
+        private static final int EMPTY = -1; // 후보 값은 항상 0 이상
+        private final int[] slots;
+        private final int mask;
+
+        IntHashSet(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+            slots = new int[capacity];
+            Arrays.fill(slots, EMPTY);
+            mask = capacity - 1;
+        }
+
+        // 새로 추가되면 true, 이미 있으면 false
+        boolean add(int value) {
+            int h = value * 0x9E3779B9;
+            int i = (h ^ (h >>> 16)) & mask;
+            while (slots[i] != EMPTY) {
+                if (slots[i] == value) {return false;}
+                i = (i + 1) & mask;
+            }
+            slots[i] = value;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.minesweeper.game;
+
+import java.util.ArrayDeque;
+
+import com.minesweeper.common.FlagState;
+
+// 되돌리기/다시 실행용 변경분 기록 — 조작마다 바뀐 칸만 저장하므로 비용은 보드 크기가 아닌 조작 크기에 비례
+// 열기: 그 조작으로 열린 칸 인덱스 목록, 깃발: 칸 하나의 이전/다음 깃발 상태
+// 메모리는 조작 수 상한(maxMoves)과 저장 칸 수 상한(maxCells)으로 제한하며, 넘치면 가장 오래된 조작부터 버린다.
+// 조작 하나가 maxCells보다 크면 되돌릴 수 없다는 표식(IRREVERSIBLE)을 남기고 되돌리기는 표식에서 멈춘다.
+// 그 조작이 연 칸을 원복하지 못하므로 더 오래된 변경분을 적용하면 상태가 어긋난다 — 표식보다 오래된 기록은 버림.
+
+final class MoveHistory {
+    static final int DEFAULT_MAX_MOVES = 1000;
+    static final int DEFAULT_MAX_CELLS = 1 << 22; // 약 400만 칸 (16MB)
+
+    // 조작 하나의 변경분 (flagTo가 null이면 열기 조작)
+    record Delta(int[] cells, FlagState flagFrom, FlagState flagTo) {
+        boolean isOpen() { return flagTo == null; }
+        static Delta open(int[] cells) { return new Delta(cells, null, null); }
+        static Delta flag(int idx, FlagState from, FlagState to) { return new Delta(new int[] {idx}, from, to); }
+    }
+
+    static final Delta IRREVERSIBLE = Delta.open(new int[0]); // 기록하지 못한 조작 자리 — 되돌리기 장벽 (참조로 비교)
+
+    private final ArrayDeque<Delta> undo = new ArrayDeque<>();
+    private final ArrayDeque<Delta> redo = new ArrayDeque<>();
+    private int maxMoves = DEFAULT_MAX_MOVES;
+    private int maxCells = DEFAULT_MAX_CELLS;
+    private long storedCells; // undo + redo에 저장된 칸 수 합계
+
+    // 새 조작 기록 — 다시 실행 목록은 무효가 됨
+    void push(Delta delta) {
+        clearRedo();
+        if (maxMoves == 0) {return;} // 기록 끔
+        if (delta.cells().length > maxCells) { // 상한보다 큰 조작은 표식만 남기고 그 아래 기록은 더 쓸 수 없으므로 버림
+            delta = IRREVERSIBLE;
+            undo.clear();
+            storedCells = 0; // 다시 실행 목록은 위에서 비웠음
+        }
+        undo.push(delta);
+        storedCells += delta.cells().length;
+        trim();
+    }
+
+    // 되돌리기는 표식에서 멈춤 (표식은 되돌리기 목록 맨 아래에만 있고 다시 실행 목록으로는 넘어가지 않음)
+    Delta popUndo() {
+        if (!canUndo()) {return null;}
+        Delta delta = undo.poll();
+        redo.push(delta);
+        return delta;
+    }
+
+    Delta popRedo() {
+        if (!canRedo()) {return null;}
+        Delta delta = redo.poll();
+        undo.push(delta);
+        return delta;
+    }
+
+    boolean canUndo() { return !undo.isEmpty() && undo.peek() != IRREVERSIBLE; }
+    boolean canRedo() { return !redo.isEmpty(); }
+
+    void setLimits(int maxMoves, int maxCells) {
+        if (maxMoves < 0 || maxCells < 0) {
+            throw new IllegalArgumentException("기록 상한은 0 이상이어야 합니다.");
+        }
+        this.maxMoves = maxMoves;
+        this.maxCells = maxCells;
+        trim();
+    }
+
+    void clear() {
+        undo.clear();
+        redo.clear();
+        storedCells = 0;
+    }
+
+    private void clearRedo() {
+        for (Delta delta : redo) {storedCells -= delta.cells().length;}
+        redo.clear();
+    }
+
+    // 상한을 넘으면 가장 오래된 조작부터 제거
+    private void trim() {
+        while (!undo.isEmpty() && (undo.size() > maxMoves || storedCells > maxCells)) {
+            Delta oldest = undo.removeLast();
+            storedCells -= oldest.cells().length;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.minesweeper.game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.MoveResult;
+
+// 플레이어 조작을 16바이트 고정 길이 레코드로 파일 끝에 덧붙이는 기록기 (버퍼링된 FileChannel)
+// 한 파일에 여러 판을 이어 기록하며, ReplayEngine이 같은 형식을 읽어 재생한다.
+//
+//   byte  type     GAME_START / GAME_SEED / OPEN / FLAG / UNDO / REDO / CHORD / LAYOUT
+//   byte  result   기록 당시 MoveResult ordinal (재생 검증용, 게임 레코드는 0, UNDO/REDO는 성공 시 1)
+//   short reserved
+//   int   cell     조작 칸 인덱스 r * cols + c  (GAME_START: rows)
+//   long  payload  직전 레코드로부터 경과 ms  (GAME_START: cols << 32 | mines, GAME_SEED/LAYOUT: seed)
+//   LAYOUT은 미리 만든 배치를 받은 판 — cell은 배치 생성에 쓴 클릭 위치
+
+public class MoveJournal implements Closeable {
+    public static final int RECORD_BYTES = 16;
+
+    public static final byte GAME_START = 1;
+    public static final byte GAME_SEED = 2;
+    public static final byte OPEN = 3;
+    public static final byte FLAG = 4;
+    public static final byte UNDO = 5;
+    public static final byte REDO = 6;
+    public static final byte CHORD = 7;
+    public static final byte LAYOUT = 8;
+
+    private static final int BUFFER_RECORDS = 4096; // 64KB 단위로 모아서 쓰기
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * BUFFER_RECORDS);
+    private int cols = 1;
+    private long lastNanos;
+
+    public MoveJournal(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // 새 판 시작: 사양과 이번 판의 실제 시드를 기록 (시드 + 첫 클릭으로 배치 재현 가능)
+    public void recordGameStart(BoardSpec spec, long seed) throws IOException {
+        cols = spec.cols();
+        lastNanos = System.nanoTime();
+        put(GAME_START, 0, spec.rows(), ((long) spec.cols() << 32) | (spec.mines() & 0xFFFFFFFFL));
+        recordSeed(seed);
+    }
+
+    // 시드 기록 — 추측 없는 모드처럼 첫 클릭 때 시드가 바뀌면 그 조작 앞에 한 번 더 기록
+    public void recordSeed(long seed) throws IOException {
+        put(GAME_SEED, 0, 0, seed);
+    }
+
+    public void recordMove(byte type, int r, int c, MoveResult result) throws IOException {
+        put(type, result.ordinal(), r * cols + c, elapsedMillis());
+    }
+
+    // 미리 만든 배치 사용: 시드 + 생성용 클릭이면 첫 열기 전 배치를 재현할 수 있음
+    public void recordLayout(long seed, int layoutRow, int layoutCol) throws IOException {
+        put(LAYOUT, 0, layoutRow * cols + layoutCol, seed);
+    }
+
+    // 되돌리기/다시 실행 (칸 인덱스 없음)
+    public void recordHistory(byte type, boolean done) throws IOException {
+        put(type, done ? 1 : 0, 0, elapsedMillis());
+    }
+
+    // 직전 레코드 이후 경과 시간(ms)
+    private long elapsedMillis() {
+        long now = System.nanoTime();
+        long deltaMillis = (now - lastNanos) / 1_000_000L;
+        lastNanos = now;
+        return deltaMillis;
+    }
+
+    private void put(byte type, int result, int cell, long payload) throws IOException {
+        if (buffer.remaining() < RECORD_BYTES) {flush();}
+        buffer.put(type).put((byte) result).putShort((short) 0).putInt(cell).putLong(payload);
+    }
+
+    // 버퍼에 모인 레코드를 파일에 기록 (판이 끝날 때와 버퍼가 찰 때 호출)
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {channel.write(buffer);}
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
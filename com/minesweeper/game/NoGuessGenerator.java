@@ -0,0 +1,82 @@
+package com.minesweeper.game;
+
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.GameState;
+
+// 추측 없이 첫 클릭부터 논리만으로 풀 수 있는 보드를 찾는 생성기
+// 후보 시드마다 보통 방식으로 지뢰를 배치한 뒤 ConstraintSolver로 끝까지 풀어 보고, 풀리는 첫 후보의 시드를 돌려준다.
+// 후보는 코어 수만큼 묶어 병렬로 검사하되 항상 가장 작은 번호의 성공 후보를 고르므로 (시드, 첫 클릭)이 같으면 결과도 같다.
+// 결과는 "시드" 하나라서 저장/재생 쪽은 일반 보드와 똑같이 그 시드로 배치를 재현한다.
+
+public final class NoGuessGenerator {
+    public static final int MAX_ATTEMPTS = 20_000; // 넘으면 마지막 수단으로 원래 시드 사용
+    private static final int WAVE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2); // 한 번에 병렬 검사할 후보 수
+
+    private NoGuessGenerator() {}
+
+    // 풀리는 배치를 만드는 시드 (찾지 못하면 baseSeed 그대로)
+    public static long findSeed(int rows, int cols, int mines, int firstRow, int firstCol,
+            long baseSeed, MinePlacement placement) {
+        for (int wave = 0; wave * WAVE < MAX_ATTEMPTS; wave++) {
+            OptionalInt found = IntStream.range(wave * WAVE, Math.min(MAX_ATTEMPTS, (wave + 1) * WAVE))
+                    .parallel()
+                    .filter(attempt -> isSolvable(rows, cols, mines, firstRow, firstCol,
+                            candidateSeed(baseSeed, attempt), placement))
+                    .min();
+            if (found.isPresent()) {return candidateSeed(baseSeed, found.getAsInt());}
+        }
+        return baseSeed;
+    }
+
+    // 첫 클릭 처리 전에 EDT 밖에서 시드를 구할 때 (공용 ForkJoinPool에서 병렬 검사)
+    public static CompletableFuture<Long> findSeedAsync(int rows, int cols, int mines, int firstRow, int firstCol,
+            long baseSeed, MinePlacement placement) {
+        return CompletableFuture.supplyAsync(
+                () -> findSeed(rows, cols, mines, firstRow, firstCol, baseSeed, placement));
+    }
+
+    // 후보 시드로 배치한 보드를 논리 힌트만 따라 끝까지 풀 수 있는가
+    static boolean isSolvable(int rows, int cols, int mines, int firstRow, int firstCol,
+            long seed, MinePlacement placement) {
+        Board board = new Board(new BoardSpec(rows, cols, mines, seed));
+        board.setMinePlacement(placement);
+        return solvesWithoutGuessing(board, firstRow, firstCol);
+    }
+
+    // 미리 만든 배치(생성용 클릭 layoutRow/layoutCol)를 실제 첫 클릭 위치에서 풀 수 있는가 (BoardPool 검증용)
+    public static boolean isLayoutSolvable(int rows, int cols, int mines, long seed, MinePlacement placement,
+            int layoutRow, int layoutCol, int firstRow, int firstCol) {
+        Board board = new Board(new BoardSpec(rows, cols, mines, seed));
+        board.setMinePlacement(placement);
+        board.placeMinesFor(layoutRow, layoutCol);
+        return solvesWithoutGuessing(board, firstRow, firstCol);
+    }
+
+    private static boolean solvesWithoutGuessing(Board board, int firstRow, int firstCol) {
+        GameManager game = new GameManager(board); // startGame 없이 — 보드는 이미 새 판(또는 배치 완료) 상태
+        game.open(firstRow, firstCol);
+        while (!game.isFinished()) {
+            ConstraintSolver.Hint hint = game.hint();
+            if (hint == null) {return false;} // 추측이 필요한 지점
+            if (hint.mine()) {
+                game.toggleFlag(hint.row(), hint.col());
+            } else {
+                game.open(hint.row(), hint.col());
+            }
+        }
+        return game.getState() == GameState.WON;
+    }
+
+    // 후보 번호 → 시드 (0번은 원래 시드, 이후는 splitmix64로 흩뿌림)
+    static long candidateSeed(long baseSeed, int attempt) {
+        if (attempt == 0) {return baseSeed;}
+        long z = baseSeed + attempt * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,103 @@
+package com.minesweeper.game;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 거대한 빈 영역용 병렬 연쇄 오픈 — 단계(level) 동기 BFS를 ForkJoinPool에서 실행
+// 현재 단계의 프런티어를 조각으로 나눠 병렬로 이웃을 검사하고, 칸은 OPENED 비트를 CAS로 켠 작업만 차지하므로 두 번 열리지 않는다.
+// 각 조각이 차지한 칸을 모아 다음 단계 프런티어(지뢰 수 0인 칸)를 만든다. 여는 규칙은 FloodFill과 같아서 결과 집합도 같고 순서만 다르다.
+// FloodFill이 순차로 시작해 일정 개수 이상 열었을 때 남은 큐를 넘겨받아 이어서 진행한다.
+
+final class ParallelFloodFill {
+    private static final VarHandle STATE = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final int CHUNK = 2048;            // 작업 하나가 맡는 프런티어 칸 수
+    private static final int SEQUENTIAL_FRONTIER = CHUNK * 2; // 프런티어가 이보다 작으면 그 단계는 호출 스레드에서 처리
+
+    private ParallelFloodFill() {}
+
+    // frontier[0, size) = 아직 이웃을 확장하지 않은 0 칸들, 새로 연 칸 수를 반환
+    static int fill(byte[] states, int[] nearOffsets, int[] frontier, int size, IntList opened) {
+        int openedCount = 0;
+        while (size > 0) {
+            int chunks = (size + CHUNK - 1) / CHUNK;
+            IntList[] claimed = new IntList[chunks];
+            if (size < SEQUENTIAL_FRONTIER) {
+                claimed[0] = new IntList(size * 2);
+                expand(states, nearOffsets, frontier, 0, size, claimed[0]);
+                for (int i = 1; i < chunks; i++) {claimed[i] = new IntList(1);}
+            } else {
+                ForkJoinPool.commonPool().invoke(new Level(states, nearOffsets, frontier, 0, chunks, size, claimed));
+            }
+
+            // 차지한 칸을 결과에 붙이고 0 칸만 다음 프런티어로
+            int next = 0;
+            for (IntList part : claimed) {next += part.size();}
+            int[] nextFrontier = new int[Math.max(1, next)];
+            int nextSize = 0;
+            for (IntList part : claimed) {
+                for (int i = 0; i < part.size(); i++) {
+                    int idx = part.get(i);
+                    opened.add(idx);
+                    if (CellBits.nearMineCount(states[idx]) == 0) {nextFrontier[nextSize++] = idx;}
+                }
+                openedCount += part.size();
+            }
+            frontier = nextFrontier;
+            size = nextSize;
+        }
+        return openedCount;
+    }
+
+    // 프런티어 [from, to)의 이웃 중 닫힌 비지뢰·무깃발 칸을 CAS로 열어 claimed에 기록
+    private static void expand(byte[] states, int[] nearOffsets, int[] frontier, int from, int to, IntList claimed) {
+        for (int i = from; i < to; i++) {
+            int cur = frontier[i];
+            for (int offset : nearOffsets) {
+                int idx = cur + offset;
+                while (true) {
+                    byte bits = (byte) STATE.getOpaque(states, idx);
+                    if (CellBits.isOpened(bits) || CellBits.isMine(bits) || CellBits.hasFlag(bits)) {break;}
+                    if (STATE.compareAndSet(states, idx, bits, (byte) (bits | CellBits.OPENED))) {
+                        claimed.add(idx);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // 조각 범위 [lo, hi)를 반씩 나눠 병렬 처리
+    private static final class Level extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] states;
+        private final int[] nearOffsets, frontier;
+        private final int lo, hi, size;
+        private final IntList[] claimed;
+
+        Level(byte[] states, int[] nearOffsets, int[] frontier, int lo, int hi, int size, IntList[] claimed) {
+            this.states = states;
+            this.nearOffsets = nearOffsets;
+            this.frontier = frontier;
+            this.lo = lo;
+            this.hi = hi;
+            this.size = size;
+            this.claimed = claimed;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                IntList part = new IntList(CHUNK);
+                expand(states, nearOffsets, frontier, lo * CHUNK, Math.min(size, (lo + 1) * CHUNK), part);
+                claimed[lo] = part;
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Level(states, nearOffsets, frontier, lo, mid, size, claimed),
+                    new Level(states, nearOffsets, frontier, mid, hi, size, claimed));
+        }
+    }
+}
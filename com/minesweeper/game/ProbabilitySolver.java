@@ -0,0 +1,478 @@
+package com.minesweeper.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+// 제약 전파로 더 확정할 칸이 없을 때 칸별 지뢰 확률을 계산해 가장 안전한 추측을 고르는 엔진
+// 1) 호출 스레드에서 경계(열린 숫자에 닿은 미확정 칸)를 스냅숏으로 떠서 제약을 공유하는 칸끼리 독립 성분으로 나누고
+// 2) 성분마다 지뢰 배치를 백트래킹으로 전부 세어(성분 지뢰 수 k별 해 개수, 칸별 지뢰 횟수) ForkJoinPool에서 병렬 처리한 뒤
+// 3) 경계 밖 칸에 남은 지뢰가 놓이는 경우의 수 C(I, R - K)로 성분들을 합성해 전체 지뢰 수 조건을 반영한다.
+// 시간 예산을 넘기거나 너무 큰 성분은 주변 제약의 지뢰 밀도로 근사하며(Result.isExact() == false), 스냅숏 이후 계산은 보드를 건드리지 않아 EDT를 막지 않는다.
+
+public class ProbabilitySolver {
+    private static final int MAX_EXACT_CELLS = 48;   // 이보다 큰 성분은 근사
+    private static final int DEADLINE_CHECK_NODES = 1 << 12; // 탐색 노드 이만큼마다 시간 확인
+    private static final int INTERIOR_PROBES = 1000; // 경계 밖 후보 칸을 찾는 무작위 시도 횟수
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final Board board;
+    private final ConstraintSolver solver;
+
+    public ProbabilitySolver(Board board, ConstraintSolver solver) {
+        this.board = board;
+        this.solver = solver;
+    }
+
+    // 계산 결과: 칸별 지뢰 확률과 가장 안전한 추측
+    public static final class Result {
+        private final Board board;
+        private final ConstraintSolver solver;
+        private final int[] cells;       // 경계 칸 (패딩 인덱스, 오름차순)
+        private final double[] probabilities;
+        private final double interiorProbability; // 경계 밖 미확정 칸의 지뢰 확률 (모두 같음)
+        private final int interiorCandidate;      // 경계 밖 미확정 칸 하나 (-1 = 없음)
+        private final boolean exact;
+
+        private Result(Board board, ConstraintSolver solver, int[] cells, double[] probabilities,
+                double interiorProbability, int interiorCandidate, boolean exact) {
+            this.board = board;
+            this.solver = solver;
+            this.cells = cells;
+            this.probabilities = probabilities;
+            this.interiorProbability = interiorProbability;
+            this.interiorCandidate = interiorCandidate;
+            this.exact = exact;
+        }
+
+        public double probability(int r, int c) {
+            int idx = board.indexOf(r, c);
+            byte fact = solver.knownAt(idx);
+            if (fact != ConstraintSolver.UNKNOWN) {return fact == ConstraintSolver.MINE ? 1.0 : 0.0;}
+            int i = Arrays.binarySearch(cells, idx);
+            return i >= 0 ? probabilities[i] : interiorProbability;
+        }
+
+        public double getInteriorProbability() { return interiorProbability; }
+        public boolean isExact() { return exact; }
+
+        // 지뢰 확률이 가장 낮은 열 수 있는 칸 (깃발 칸 제외), 후보가 없으면 null
+        public ConstraintSolver.Hint safestGuess() {
+            int best = -1;
+            double bestP = 2;
+            for (int i = 0; i < cells.length; i++) {
+                int bits = board.stateAt(cells[i]);
+                if (CellBits.isOpened(bits) || CellBits.hasFlag(bits)) {continue;}
+                if (probabilities[i] < bestP) {
+                    bestP = probabilities[i];
+                    best = cells[i];
+                }
+            }
+            if (interiorCandidate >= 0 && interiorProbability < bestP) {best = interiorCandidate;}
+            return best < 0 ? null : new ConstraintSolver.Hint(board.rowOf(best), board.colOf(best), false);
+        }
+
+        public double safestGuessProbability() {
+            ConstraintSolver.Hint guess = safestGuess();
+            return guess == null ? Double.NaN : probability(guess.row(), guess.col());
+        }
+    }
+
+    // 동기 계산 (호출 스레드는 병렬 계산이 끝날 때까지 대기)
+    public Result solve(long budgetMillis) {
+        Snapshot snapshot = snapshot();
+        return POOL.invoke(ForkJoinTask.adapt(() -> snapshot.compute(System.nanoTime() + budgetMillis * 1_000_000L)));
+    }
+
+    // 비동기 계산 — 스냅숏만 호출 스레드(EDT)에서 뜨고 나머지는 풀에서 진행
+    public CompletableFuture<Result> solveAsync(long budgetMillis) {
+        Snapshot snapshot = snapshot();
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        return CompletableFuture.supplyAsync(() -> snapshot.compute(deadline), POOL);
+    }
+
+    // ── 1) 스냅숏: 경계 칸/제약을 배열로 복사하고 성분으로 분할 ──
+    private Snapshot snapshot() {
+        solver.propagate();
+        Map<Integer, Integer> cellIds = new HashMap<>(); // 패딩 인덱스 → 경계 칸 번호
+        IntList cellIndex = new IntList();
+        List<int[]> constraintCells = new ArrayList<>();
+        IntList constraintNeeds = new IntList();
+        int[] nearOffsets = board.nearOffsets();
+
+        for (int a = solver.frontier().nextSetBit(0); a >= 0; a = solver.frontier().nextSetBit(a + 1)) {
+            if (!solver.isConstraintCell(a)) {continue;}
+            IntList members = new IntList(8);
+            for (int offset : nearOffsets) {
+                int n = a + offset;
+                if (!solver.isUndetermined(n)) {continue;}
+                Integer id = cellIds.get(n);
+                if (id == null) {
+                    id = cellIndex.size();
+                    cellIds.put(n, id);
+                    cellIndex.add(n);
+                }
+                members.add(id);
+            }
+            if (members.isEmpty()) {continue;}
+            constraintCells.add(members.toArray());
+            constraintNeeds.add(solver.remainingMinesAt(a));
+        }
+
+        // 제약을 공유하는 칸끼리 합치는 union-find
+        int n = cellIndex.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {parent[i] = i;}
+        for (int[] members : constraintCells) {
+            for (int i = 1; i < members.length; i++) {union(parent, members[0], members[i]);}
+        }
+        Map<Integer, Component> byRoot = new HashMap<>();
+        int[] local = new int[n];
+        for (int i = 0; i < n; i++) {
+            Component comp = byRoot.computeIfAbsent(find(parent, i), r -> new Component());
+            local[i] = comp.cells.size();
+            comp.cells.add(cellIndex.get(i));
+        }
+        for (int k = 0; k < constraintCells.size(); k++) {
+            int[] members = constraintCells.get(k);
+            Component comp = byRoot.get(find(parent, members[0]));
+            int[] localMembers = new int[members.length];
+            for (int i = 0; i < members.length; i++) {localMembers[i] = local[members[i]];}
+            comp.constraints.add(localMembers);
+            comp.needs.add(constraintNeeds.get(k));
+        }
+
+        int undetermined = board.getRows() * board.getCols() - solver.getKnownCount();
+        int remaining = board.getMineCount() - solver.getKnownMineCount();
+        return new Snapshot(new ArrayList<>(byRoot.values()), undetermined - n, remaining, findInteriorCandidate());
+    }
+
+    // 경계 밖 미확정 칸 하나를 무작위 탐색으로 찾음 (구석 우선, 보드 전체 스캔 없음)
+    private int findInteriorCandidate() {
+        int rows = board.getRows(), cols = board.getCols();
+        int[][] corners = {{0, 0}, {0, cols - 1}, {rows - 1, 0}, {rows - 1, cols - 1}};
+        for (int[] corner : corners) {
+            int idx = board.indexOf(corner[0], corner[1]);
+            if (isInterior(idx)) {return idx;}
+        }
+        Random random = new Random(board.getSeed());
+        for (int i = 0; i < INTERIOR_PROBES; i++) {
+            int idx = board.indexOf(random.nextInt(rows), random.nextInt(cols));
+            if (isInterior(idx)) {return idx;}
+        }
+        return -1;
+    }
+
+    private boolean isInterior(int idx) {
+        if (!solver.isUndetermined(idx)) {return false;}
+        for (int offset : board.nearOffsets()) {
+            if (solver.isConstraintCell(idx + offset)) {return false;}
+        }
+        return true;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, a)] = find(parent, b);
+    }
+
+    // 독립 성분: 칸 목록, 제약(칸 번호 목록 + 필요한 지뢰 수), 계산 결과
+    private static final class Component {
+        final IntList cells = new IntList();
+        final List<int[]> constraints = new ArrayList<>();
+        final IntList needs = new IntList();
+        double[] counts;      // 성분 지뢰 수 k → 해 개수 (최댓값 1로 정규화)
+        double[][] cellCounts; // [k][칸] → 그 칸이 지뢰인 해 개수
+        boolean exact;
+    }
+
+    // ── 2) 성분별 병렬 열거 ──
+    private final class Snapshot {
+        final List<Component> components;
+        final int interiorCells;
+        final int remainingMines;
+        final int interiorCandidate;
+
+        Snapshot(List<Component> components, int interiorCells, int remainingMines, int interiorCandidate) {
+            this.components = components;
+            this.interiorCells = interiorCells;
+            this.remainingMines = remainingMines;
+            this.interiorCandidate = interiorCandidate;
+        }
+
+        Result compute(long deadline) {
+            List<RecursiveAction> tasks = new ArrayList<>();
+            for (Component comp : components) {
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        new Enumerator(comp, deadline).run();
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+            return combine();
+        }
+
+        // ── 3) 전체 지뢰 수 조건으로 성분 합성 ──
+        // 성분 c 칸의 확률 = Σ_k cellCounts_c[k] · g_c(k) / Σ_k counts_c[k] · g_c(k),
+        // g_c(k) = Σ_K prefix_c(K) · back_{c+1}(K + k)
+        //   prefix_c = 앞쪽 성분들의 합성곱, back_{c+1}(K) = 뒤쪽 성분들까지 더했을 때 경계 밖 가중치 C(I, R - 총합)의 합
+        // back을 뒤에서부터 한 단계씩 갱신하므로 성분 수가 많아도 O(L · Σ 성분 칸 수)
+        Result combine() {
+            int m = components.size();
+            double[][] prefix = new double[m + 1][];
+            prefix[0] = new double[] {1};
+            for (int i = 0; i < m; i++) {prefix[i + 1] = convolve(prefix[i], components.get(i).counts);}
+
+            int totalMax = prefix[m].length - 1;
+            double[] weight = interiorWeights(totalMax);
+
+            IntList cells = new IntList();
+            List<double[]> probs = new ArrayList<>();
+            boolean exact = true;
+            double[] back = weight;
+            for (int i = m - 1; i >= 0; i--) {
+                Component comp = components.get(i);
+                exact &= comp.exact;
+                double[] before = prefix[i];
+                double[] g = new double[comp.counts.length];
+                for (int k = 0; k < g.length; k++) {
+                    for (int K = 0; K < before.length && K + k <= totalMax; K++) {g[k] += before[K] * back[K + k];}
+                }
+                double z = 0;
+                for (int k = 0; k < g.length; k++) {z += comp.counts[k] * g[k];}
+                double[] p = new double[comp.cells.size()];
+                for (int k = 0; k < g.length; k++) {
+                    if (g[k] == 0 || comp.counts[k] == 0) {continue;} // 근사 성분은 해당 k 행만 존재
+                    for (int c = 0; c < p.length; c++) {p[c] += comp.cellCounts[k][c] * g[k];}
+                }
+                for (int c = 0; c < p.length; c++) {
+                    p[c] = z > 0 ? p[c] / z : 0.5;
+                    cells.add(comp.cells.get(c));
+                }
+                probs.add(p);
+                back = absorb(back, comp.counts);
+            }
+
+            // 경계 밖 칸: 남은 지뢰 기댓값 / 칸 수
+            double interior = 0;
+            if (interiorCells > 0) {
+                double z = 0, expected = 0;
+                double[] all = prefix[m];
+                for (int K = 0; K < all.length; K++) {
+                    double w = all[K] * weight[K];
+                    z += w;
+                    expected += w * (remainingMines - K);
+                }
+                interior = z > 0 ? expected / z / interiorCells : (double) remainingMines / interiorCells;
+            }
+
+            // 경계 칸을 인덱스 순으로 정렬해 이진 탐색 가능하게
+            int[] order = cells.toArray();
+            double[] flat = new double[order.length];
+            int pos = 0;
+            for (double[] p : probs) {
+                System.arraycopy(p, 0, flat, pos, p.length);
+                pos += p.length;
+            }
+            Integer[] sortIdx = new Integer[order.length];
+            for (int i = 0; i < sortIdx.length; i++) {sortIdx[i] = i;}
+            Arrays.sort(sortIdx, (x, y) -> Integer.compare(order[x], order[y]));
+            int[] sortedCells = new int[order.length];
+            double[] sortedProbs = new double[order.length];
+            for (int i = 0; i < sortIdx.length; i++) {
+                sortedCells[i] = order[sortIdx[i]];
+                sortedProbs[i] = flat[sortIdx[i]];
+            }
+            return new Result(board, solver, sortedCells, sortedProbs, interior, interiorCandidate, exact);
+        }
+
+        // 경계 지뢰 수 K별 상대 가중치 C(I, R - K) — 로그 비율로 누적해 큰 보드에서도 넘치지 않음
+        double[] interiorWeights(int totalMax) {
+            double[] log = new double[totalMax + 1];
+            double max = Double.NEGATIVE_INFINITY;
+            double current = Double.NaN;
+            for (int K = 0; K <= totalMax; K++) {
+                int j = remainingMines - K; // 경계 밖에 놓일 지뢰 수
+                if (j < 0 || j > interiorCells) {
+                    log[K] = Double.NEGATIVE_INFINITY;
+                    continue;
+                }
+                // C(I, j) / C(I, j + 1) = (j + 1) / (I - j)
+                current = Double.isNaN(current) ? 0 : current + Math.log((j + 1.0) / (interiorCells - j));
+                log[K] = current;
+                max = Math.max(max, current);
+            }
+            double[] weight = new double[totalMax + 1];
+            for (int K = 0; K <= totalMax; K++) {
+                weight[K] = log[K] == Double.NEGATIVE_INFINITY ? 0 : Math.exp(log[K] - max);
+            }
+            return weight;
+        }
+    }
+
+    // back(K) ← Σ_j counts[j] · back(K + j) (최댓값 1로 정규화)
+    private static double[] absorb(double[] back, double[] counts) {
+        double[] out = new double[back.length];
+        double max = 0;
+        for (int K = 0; K < out.length; K++) {
+            double sum = 0;
+            for (int j = 0; j < counts.length && K + j < back.length; j++) {sum += counts[j] * back[K + j];}
+            out[K] = sum;
+            max = Math.max(max, sum);
+        }
+        if (max > 0) {
+            for (int K = 0; K < out.length; K++) {out[K] /= max;}
+        }
+        return out;
+    }
+
+    // 두 분포의 합성곱 (결과를 최댓값 1로 정규화 — 같은 배율은 확률 계산에서 약분됨)
+    private static double[] convolve(double[] a, double[] b) {
+        double[] out = new double[a.length + b.length - 1];
+        double max = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {continue;}
+            for (int j = 0; j < b.length; j++) {out[i + j] += a[i] * b[j];}
+        }
+        for (double v : out) {max = Math.max(max, v);}
+        if (max > 0) {
+            for (int i = 0; i < out.length; i++) {out[i] /= max;}
+        }
+        return out;
+    }
+
+    // 성분 하나의 백트래킹 열거기 (시간 초과/대형 성분은 근사로 대체)
+    private static final class Enumerator {
+        private final Component comp;
+        private final long deadline;
+        private final int n;
+        private final int[][] cellConstraints; // 칸 → 속한 제약 번호
+        private final int[] need, assignedMines, unassigned;
+        private final boolean[] mine;
+        private long nodes;
+        private boolean timedOut;
+
+        Enumerator(Component comp, long deadline) {
+            this.comp = comp;
+            this.deadline = deadline;
+            this.n = comp.cells.size();
+            int cc = comp.constraints.size();
+            this.need = new int[cc];
+            this.assignedMines = new int[cc];
+            this.unassigned = new int[cc];
+            this.mine = new boolean[n];
+            IntList[] lists = new IntList[n];
+            for (int i = 0; i < n; i++) {lists[i] = new IntList(4);}
+            for (int k = 0; k < cc; k++) {
+                need[k] = comp.needs.get(k);
+                unassigned[k] = comp.constraints.get(k).length;
+                for (int cell : comp.constraints.get(k)) {lists[cell].add(k);}
+            }
+            this.cellConstraints = new int[n][];
+            for (int i = 0; i < n; i++) {cellConstraints[i] = lists[i].toArray();}
+        }
+
+        void run() {
+            if (n <= MAX_EXACT_CELLS) {
+                comp.counts = new double[n + 1];
+                comp.cellCounts = new double[n + 1][n];
+                search(0, 0);
+                if (!timedOut && hasSolution()) {
+                    comp.exact = true;
+                    return;
+                }
+            }
+            approximate();
+        }
+
+        private boolean hasSolution() {
+            for (double v : comp.counts) {
+                if (v > 0) {return true;}
+            }
+            return false;
+        }
+
+        private void search(int cell, int mines) {
+            if (timedOut) {return;}
+            if ((++nodes & (DEADLINE_CHECK_NODES - 1)) == 0 && System.nanoTime() > deadline) {
+                timedOut = true;
+                return;
+            }
+            if (cell == n) {
+                comp.counts[mines]++;
+                double[] row = comp.cellCounts[mines];
+                for (int i = 0; i < n; i++) {
+                    if (mine[i]) {row[i]++;}
+                }
+                return;
+            }
+            for (int value = 0; value <= 1; value++) {
+                if (assign(cell, value == 1)) {
+                    mine[cell] = value == 1;
+                    search(cell + 1, mines + value);
+                }
+                unassign(cell, value == 1);
+            }
+            mine[cell] = false;
+        }
+
+        // 칸 배정 후 관련 제약이 여전히 만족 가능한지 (넘치지 않고, 남은 칸으로 채울 수 있는지)
+        private boolean assign(int cell, boolean isMine) {
+            boolean ok = true;
+            for (int k : cellConstraints[cell]) {
+                unassigned[k]--;
+                if (isMine) {assignedMines[k]++;}
+                if (assignedMines[k] > need[k] || assignedMines[k] + unassigned[k] < need[k]) {ok = false;}
+            }
+            return ok;
+        }
+
+        private void unassign(int cell, boolean isMine) {
+            for (int k : cellConstraints[cell]) {
+                unassigned[k]++;
+                if (isMine) {assignedMines[k]--;}
+            }
+        }
+
+        // 근사: 칸마다 닿은 제약들의 지뢰 밀도(need / 칸 수) 평균, 성분 지뢰 수는 그 합에 몰아 줌
+        private void approximate() {
+            double[] p = new double[n];
+            int[] touches = new int[n];
+            for (int k = 0; k < comp.constraints.size(); k++) {
+                int[] members = comp.constraints.get(k);
+                double density = (double) need[k] / members.length;
+                for (int cell : members) {
+                    p[cell] += density;
+                    touches[cell]++;
+                }
+            }
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                p[i] /= touches[i];
+                sum += p[i];
+            }
+            int k = (int) Math.min(n, Math.round(sum));
+            comp.counts = new double[k + 1];
+            comp.counts[k] = 1;
+            comp.cellCounts = new double[k + 1][];
+            comp.cellCounts[k] = p;
+            comp.exact = false;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.minesweeper.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.MoveResult;
+
+// MoveJournal 파일을 읽어 시드가 고정된 Board에 조작을 최대 속도로 다시 적용하는 헤드리스 재생기
+// 기록된 결과 코드와 재생 결과를 비교해 엔진 변경 전후 동작이 같은지 검증한다 (화면/대기 시간 없음).
+// 실행: java com.minesweeper.game.ReplayEngine <journal 파일>
+
+public class ReplayEngine {
+    private static final long MAP_WINDOW_BYTES = 64L * 1024 * 1024; // 64MB씩 매핑 (레코드 크기의 배수)
+
+    // 재생 결과 요약
+    public record Report(long games, long moves, long mismatches, long wins, long losses, long elapsedNanos) {
+        public double movesPerSecond() {
+            return elapsedNanos == 0 ? 0 : moves * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("games=%d, moves=%d, mismatches=%d, wins=%d, losses=%d, %.1f ms (%.0f moves/s)",
+                    games, moves, mismatches, wins, losses, elapsedNanos / 1e6, movesPerSecond());
+        }
+    }
+
+    public Report replay(Path journal) throws IOException {
+        long start = System.nanoTime();
+        long games = 0, moves = 0, mismatches = 0, wins = 0, losses = 0;
+        GameManager game = null;
+        int rows = 0, cols = 0, mines = 0;
+
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ)) {
+            long size = channel.size() - channel.size() % MoveJournal.RECORD_BYTES; // 잘린 꼬리 레코드는 무시
+            for (long offset = 0; offset < size; offset += MAP_WINDOW_BYTES) {
+                long length = Math.min(MAP_WINDOW_BYTES, size - offset);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                while (window.remaining() >= MoveJournal.RECORD_BYTES) {
+                    byte type = window.get();
+                    int recorded = window.get();
+                    window.getShort();
+                    int cell = window.getInt();
+                    long payload = window.getLong();
+
+                    switch (type) {
+                        case MoveJournal.GAME_START -> {
+                            rows = cell;
+                            cols = (int) (payload >>> 32);
+                            mines = (int) payload;
+                            game = null; // 시드 레코드에서 보드 생성
+                            games++;
+                        }
+                        case MoveJournal.GAME_SEED -> {
+                            if (game == null) { // 판의 첫 시드 레코드에서만 보드 생성
+                                game = new GameManager(new BoardSpec(rows, cols, mines, payload));
+                                game.startGame();
+                            } else { // 같은 판에서 다시 나오면 첫 클릭 때 바뀐 시드 — 실제 게임처럼 보드(깃발)는 유지하고 시드만 지정
+                                game.getBoard().prepareSeed(payload);
+                            }
+                        }
+                        case MoveJournal.OPEN, MoveJournal.FLAG, MoveJournal.CHORD -> {
+                            if (game == null) {throw new IOException("게임 시작 레코드 없이 조작 레코드가 나왔습니다.");}
+                            int r = cell / cols, c = cell % cols;
+                            MoveResult result = switch (type) {
+                                case MoveJournal.OPEN -> game.open(r, c);
+                                case MoveJournal.FLAG -> game.toggleFlag(r, c);
+                                default -> game.chord(r, c);
+                            };
+                            moves++;
+                            if (result.ordinal() != recorded) {mismatches++;}
+                            if (result == MoveResult.WON) {wins++;}
+                            if (result == MoveResult.BOOM) {losses++;}
+                        }
+                        case MoveJournal.LAYOUT -> {
+                            if (game == null) {throw new IOException("게임 시작 레코드 없이 조작 레코드가 나왔습니다.");}
+                            game.placeLayout(payload, cell / cols, cell % cols);
+                        }
+                        case MoveJournal.UNDO, MoveJournal.REDO -> {
+                            if (game == null) {throw new IOException("게임 시작 레코드 없이 조작 레코드가 나왔습니다.");}
+                            boolean done = type == MoveJournal.UNDO ? game.undo() : game.redo();
+                            moves++;
+                            if ((done ? 1 : 0) != recorded) {mismatches++;}
+                        }
+                        default -> throw new IOException("알 수 없는 레코드 종류: " + type);
+                    }
+                }
+            }
+        }
+        return new Report(games, moves, mismatches, wins, losses, System.nanoTime() - start);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: java com.minesweeper.game.ReplayEngine <journal 파일>");
+            return;
+        }
+        System.out.println(new ReplayEngine().replay(Path.of(args[0])));
+    }
+}
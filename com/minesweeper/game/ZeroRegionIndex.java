@@ -0,0 +1,171 @@
+package com.minesweeper.game;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 배치가 확정된 보드의 '지뢰 수 0 영역'을 미리 찾아 둔 색인
+// 8방향으로 이어진 0 칸들을 union-find로 묶어 칸마다 영역 번호를 붙이고,
+// 영역별 칸 목록(0 칸 전부 + 그 둘레의 숫자 칸)을 CSR 형태(start 오프셋 + 하나의 int 배열)로 이어 붙여 저장한다.
+// 연쇄 오픈 시 BFS로 영역을 다시 찾지 않고 번호 조회 한 번으로 목록을 훑어 연다 — 결과 집합은 FloodFill과 같다.
+// 배치(지뢰/숫자 비트)는 확정 후 바뀌지 않으므로 게임 중에 백그라운드에서 만들어도 안전하며, 만들 때의 배치 버전으로 유효성을 가린다.
+
+final class ZeroRegionIndex {
+    static final long MAX_INDEXED_CELLS = 1L << 24; // 이보다 큰 보드는 색인 없이 순차/병렬 BFS 사용 (칸당 int 하나 이상 필요)
+
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "zero-region-index");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    final int version;          // 색인을 만든 배치 버전 (Board.layoutVersion과 같을 때만 사용)
+    private final int[] label;  // 패딩 인덱스별 영역 번호, 0 칸이 아니면 -1
+    private final int[] start;  // 영역 k의 칸 = cells[start[k], start[k + 1])
+    private final int[] cells;  // 영역마다 0 칸들 다음에 둘레 숫자 칸들 (중복 없음)
+
+    private ZeroRegionIndex(int version, int[] label, int[] start, int[] cells) {
+        this.version = version;
+        this.label = label;
+        this.start = start;
+        this.cells = cells;
+    }
+
+    // 보드마다 대기 중인 작업은 최대 하나 (Board가 요청을 합쳐서 넘김) — 큐가 보드 수 이상으로 쌓이지 않음
+    static void buildAsync(Runnable task) {
+        BUILDER.execute(task);
+    }
+
+    int regionCount() { return start.length - 1; }
+
+    // states의 지뢰/숫자 비트로 색인 생성 (열림/깃발 비트는 보지 않음)
+    static ZeroRegionIndex build(byte[] states, int rows, int cols, int[] nearOffsets, int version) {
+        int stride = cols + 2;
+        int[] parent = new int[states.length];
+        Arrays.fill(parent, -1);
+
+        // 1. 0 칸끼리 union — 왼쪽/위 세 칸만 보면 8방향 연결이 모두 처리된다, 루트는 항상 가장 작은 인덱스
+        for (int r = 1; r <= rows; r++) {
+            for (int idx = r * stride + 1, end = idx + cols; idx < end; idx++) {
+                if (!isZero(states[idx])) {continue;}
+                parent[idx] = idx;
+                if (parent[idx - 1] >= 0) {union(parent, idx - 1, idx);}
+                for (int up = idx - stride - 1; up <= idx - stride + 1; up++) { // 첫 행의 위는 테두리(-1)
+                    if (parent[up] >= 0) {union(parent, up, idx);}
+                }
+            }
+        }
+
+        // 2. 영역 번호 부여 — 루트를 -(번호 + 2)로 바꿔 parent 배열을 그대로 번호 배열로 재사용 (루트가 자식보다 앞에 있음)
+        int regions = 0;
+        for (int idx = 0; idx < parent.length; idx++) {
+            int p = parent[idx];
+            if (p == -1) {continue;}
+            if (p == idx) {
+                parent[idx] = -(regions++ + 2);
+            } else {
+                int root = p;
+                while (parent[root] >= 0) {root = parent[root];}
+                parent[idx] = parent[root];
+            }
+        }
+        for (int idx = 0; idx < parent.length; idx++) {
+            if (parent[idx] != -1) {parent[idx] = -parent[idx] - 2;}
+        }
+        int[] label = parent;
+
+        // 3. 영역별 칸 수 세기 → 오프셋 → 채우기 (둘레 숫자 칸은 이웃 영역 번호마다 한 번씩)
+        int[] start = new int[regions + 1];
+        int[] seen = new int[8];
+        for (int pass = 0; pass < 2; pass++) {
+            int[] cursor = pass == 0 ? start : start.clone();
+            int[] cells = pass == 0 ? null : new int[start[regions]];
+            for (int r = 1; r <= rows; r++) {
+                for (int idx = r * stride + 1, end = idx + cols; idx < end; idx++) {
+                    int k = label[idx];
+                    if (k >= 0) {
+                        add(cursor, cells, k, idx);
+                    } else if (!CellBits.isMine(states[idx])) {
+                        int distinct = 0;
+                        for (int offset : nearOffsets) {
+                            int near = label[idx + offset];
+                            if (near < 0 || contains(seen, distinct, near)) {continue;}
+                            seen[distinct++] = near;
+                            add(cursor, cells, near, idx);
+                        }
+                    }
+                }
+            }
+            if (pass == 0) {
+                // 개수 → 누적 오프셋 (start[k] = 영역 k 앞까지의 합)
+                int sum = 0;
+                for (int k = 0; k <= regions; k++) {
+                    int count = k < regions ? start[k + 1] : 0;
+                    start[k] = sum;
+                    sum += count;
+                }
+            } else {
+                return new ZeroRegionIndex(version, label, start, cells);
+            }
+        }
+        throw new AssertionError();
+    }
+
+    // 1단계에서는 start[k + 1]에 개수를 모으고, 2단계에서는 cursor 위치에 칸을 기록
+    private static void add(int[] cursor, int[] cells, int k, int idx) {
+        if (cells == null) {
+            cursor[k + 1]++;
+        } else {
+            cells[cursor[k]++] = idx;
+        }
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {return true;}
+        }
+        return false;
+    }
+
+    private static boolean isZero(byte bits) {
+        return !CellBits.isMine(bits) && CellBits.nearMineCount(bits) == 0;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a), rb = find(parent, b);
+        if (ra == rb) {return;}
+        if (ra < rb) {parent[rb] = ra;} else {parent[ra] = rb;}
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // 경로 절반 압축
+            x = parent[x];
+        }
+        return x;
+    }
+
+    // 방금 연 0 칸 startIdx의 영역을 목록대로 열고 새로 연 칸 수를 반환
+    // 영역 안에 깃발/물음표가 있거나 startIdx 외의 0 칸이 이미 열려 있으면 BFS와 결과가 달라질 수 있으므로 -1 (호출자가 FloodFill로 처리)
+    int openRegion(byte[] states, int startIdx, IntList opened) {
+        int k = label[startIdx];
+        if (k < 0) {return -1;}
+        int from = start[k], to = start[k + 1];
+        for (int i = from; i < to; i++) {
+            int idx = cells[i];
+            byte bits = states[idx];
+            if (CellBits.hasFlag(bits)) {return -1;}
+            if (idx != startIdx && CellBits.isOpened(bits) && CellBits.nearMineCount(bits) == 0) {return -1;}
+        }
+        int openedCount = 0;
+        for (int i = from; i < to; i++) {
+            int idx = cells[i];
+            if (CellBits.isOpened(states[idx])) {continue;}
+            states[idx] |= CellBits.OPENED;
+            opened.add(idx);
+            openedCount++;
+        }
+        return openedCount;
+    }
+}
@@ -4,60 +4,63 @@ import java.awt.Point;
 import java.util.List;
 import com.minesweeper.common.Click;
 import com.minesweeper.common.FlagState;
+import com.minesweeper.common.GameExceptions;
+import com.minesweeper.common.MoveResult;
 import com.minesweeper.game.Board;
 
 // 지뢰/빈 칸이 공통으로 따르는 셀 동작과 상태(좌표, 열림, 깃발)를 정의
-// 추상 클래스이며 Board 참조와 공통 필드를 보유하고 Click 인터페이스를 구현
+// 추상 클래스이며 Board 참조와 좌표만 보유하는 경량 뷰로, 열림/깃발 상태는 Board의 압축 배열에 위임하고 Click 인터페이스를 구현
 
 public abstract class Cell implements Click {
-	protected final Board board; 	  // 클릭 시 보드 조작을 위함
-    protected boolean cellOpened;     // 칸이 열렸는가
-    protected int row, col;           // 좌표
-    protected boolean isMine;         // 지뢰 여부
-    protected FlagState flagState;    // 깃발 상태 (NONE, FLAGGED, QUESTION)
+	protected final Board board; 	  // 클릭 시 보드 조작 및 상태 위임을 위함
+    protected final int row, col;     // 좌표
 
     protected Cell(Board board, int row, int col) { // [NEW] 보드 참조 주입
         this.board = board;
         this.row = row;
         this.col = col;
-        this.cellOpened = false;
-        this.flagState = FlagState.NONE;
     }
 
-    public boolean isOpened() { return cellOpened; }
-    public boolean isMine() { return isMine; }
+    public boolean isOpened() { return board.isOpened(row, col); }
+    public abstract boolean isMine();
     public int getRow() { return row; }
     public int getCol() { return col; }
     
-    public void setOpened(boolean opened) {this.cellOpened = opened;}
+    public void setOpened(boolean opened) {board.setOpened(row, col, opened);}
     
-    public FlagState getFlagState() { return flagState; }
+    public FlagState getFlagState() { return board.getFlagState(row, col); }
     
     public void setFlagState(FlagState flagState) {
-        this.flagState = flagState;
+        board.setFlagState(row, col, flagState);
     }
     
     protected void markOpened(List<Point> opened) { // [NEW] 공통 오픈 처리
-        cellOpened = true;
+        setOpened(true);
         opened.add(new Point(row, col));
     }
     
-    // 우클릭 시 상태 순환: NONE → FLAGGED → QUESTION → NONE
-    public void nextFlagState() {
-        switch (flagState) {
-        // 람다식 스위치문은 break 생략 가능
-        	case NONE -> {
-            board.checkFlagLimit(); // [NEW]
-            flagState = FlagState.FLAGGED;
+    // 우클릭 시 상태 순환: NONE → FLAGGED → QUESTION → NONE (깃발 제한은 FLAG_LIMIT로 반환)
+    public MoveResult nextFlagState() {
+        return board.tryCycleFlag(row, col);
+    }
+
+    // 기존 예외 방식 호환 래퍼: 지뢰면 BoomException
+    public void onLeftClickOrThrow(List<Point> openedCells) {
+        if (onLeftClick(openedCells) == MoveResult.BOOM) {
+            throw new GameExceptions.BoomException("지뢰를 클릭했습니다!");
         }
-            case FLAGGED -> flagState = FlagState.QUESTION;
-            case QUESTION -> flagState = FlagState.NONE;
+    }
+
+    // 기존 예외 방식 호환 래퍼: 깃발 제한이면 InvalidActionException
+    public void onRightClickOrThrow() {
+        if (onRightClick() == MoveResult.FLAG_LIMIT) {
+            throw new GameExceptions.InvalidActionException(board.flagLimitMessage());
         }
     }
 
     @Override
-    public abstract void onLeftClick(List<Point> openedCells);
+    public abstract MoveResult onLeftClick(List<Point> openedCells);
 
     @Override
-    public abstract void onRightClick();
+    public abstract MoveResult onRightClick();
 }
@@ -3,42 +3,40 @@ package com.minesweeper.game.cells;
 import java.awt.Point;
 import java.util.List;
 import com.minesweeper.common.FlagState;
+import com.minesweeper.common.MoveResult;
 import com.minesweeper.game.Board;
 
 // 주변 지뢰 수가 표시되는 일반 셀로, 좌클릭 시 연쇄 오픈을 트리거
-// Cell을 상속하며 nearMineCount 필드와 getter/setter를 추가 보유
+// Cell을 상속하며 주변 지뢰 수 getter를 추가 제공 (값은 Board가 계산해 보관)
 
 public class EmptyCell extends Cell {
-    private int nearMineCount; // 주변 지뢰 개수
 
     public EmptyCell(Board board, int row, int col) { // [NEW] 보드 전달
         super(board, row, col);
-        this.isMine = false;
-        this.nearMineCount = 0;
     }
 
-    public void setNearMineCount(int count) {
-        this.nearMineCount = count;
-    }
+    @Override
+    public boolean isMine() { return false; }
 
     public int getNearMineCount() {
-        return nearMineCount;
+        return board.getNearMineCount(row, col); // 주변 지뢰 개수
     }
 
     @Override
-    public void onLeftClick(List<Point> openedCells) {
-        if (cellOpened || flagState != FlagState.NONE) {
-            return;
+    public MoveResult onLeftClick(List<Point> openedCells) {
+        if (isOpened() || getFlagState() != FlagState.NONE) {
+            return MoveResult.IGNORED;
         }
 
         markOpened(openedCells);
-        if (nearMineCount == 0) {
+        if (getNearMineCount() == 0) {
             board.cascadeOpen(row, col, openedCells); // [NEW] 빈 칸 연쇄 오픈
         }
+        return MoveResult.OPENED;
     }
 
     @Override
-    public void onRightClick() {
-        nextFlagState(); // 상태 순환
+    public MoveResult onRightClick() {
+        return nextFlagState(); // 상태 순환
     }
 }
@@ -3,29 +3,31 @@
 import java.awt.Point;
 import java.util.List;
 import com.minesweeper.common.FlagState;
-import com.minesweeper.common.GameExceptions;
+import com.minesweeper.common.MoveResult;
 import com.minesweeper.game.Board;
 
-// 지뢰 셀을 표현하며 좌클릭 시 폭발 예외를 발생
+// 지뢰 셀을 표현하며 좌클릭 시 BOOM 결과를 반환
 
 public class MineCell extends Cell {
 
 	public MineCell(Board board, int row, int col) { // [NEW] 보드 전달
         super(board, row, col);
-        this.isMine = true;
     }
 
     @Override
-    public void onLeftClick(List<Point> openedCells) {
-        if (cellOpened || flagState != FlagState.NONE) {
-            return;
+    public boolean isMine() { return true; }
+
+    @Override
+    public MoveResult onLeftClick(List<Point> openedCells) {
+        if (isOpened() || getFlagState() != FlagState.NONE) {
+            return MoveResult.IGNORED;
         }
         markOpened(openedCells);
-        throw new GameExceptions.BoomException("지뢰를 클릭했습니다!");
+        return MoveResult.BOOM; // 스택 트레이스 비용 없는 폭발 신호
     }
 
     @Override
-    public void onRightClick() {
-        nextFlagState(); // 상태 순환
+    public MoveResult onRightClick() {
+        return nextFlagState(); // 상태 순환
     }
 }
@@ -0,0 +1,367 @@
+package com.minesweeper.ui;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.BasicStroke;
+import java.awt.Rectangle;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import javax.swing.JComponent;
+import javax.swing.JScrollPane;
+import javax.swing.JViewport;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import com.minesweeper.common.FlagState;
+import com.minesweeper.game.Board;
+
+// 보드 전체를 하나의 컴포넌트로 그리는 렌더러 (칸마다 JButton을 만들던 CellButton 대체)
+// 칸 모양은 셀 크기별로 한 번 그려 둔 글리프 이미지를 복사해 그리며, 마우스 좌표를 (row, col)로 환산해 GameWindow에 전달한다.
+// 다시 그리기는 변경된 칸을 행 묶음(band)별 경계 사각형으로 모아 한 프레임에 한 번씩만 요청하고, paintComponent는 클립 영역에 걸친 칸만 그린다.
+// JScrollPane 안에서 Scrollable로 동작해 화면에 보이는 칸(+여유 1칸)만 그리며, 뷰포트보다 작으면 가운데 정렬, Ctrl+휠로 확대/축소한다.
+
+class BoardCanvas extends JComponent implements Scrollable {
+    private static final long serialVersionUID = 1L;
+
+    // 글리프 종류: 0~8 = 열린 칸의 주변 지뢰 수, 그 뒤로 지뢰/닫힌 칸/깃발/물음표
+    private static final int GLYPH_MINE = 9;
+    private static final int GLYPH_CLOSED = 10;
+    private static final int GLYPH_FLAGGED = 11;
+    private static final int GLYPH_QUESTION = 12;
+    private static final int GLYPH_COUNT = 13;
+
+    private static final Color CLOSED_FILL = new Color(0xDDE3EA);
+    private static final Color CLOSED_LIGHT = Color.WHITE;
+    private static final Color CLOSED_SHADOW = new Color(0x8A96A3);
+    private static final Color OPENED_FILL = new Color(0xF4F5F7);
+    private static final Color GRID_LINE = new Color(0xC4CAD2);
+    private static final Color HINT_SAFE = new Color(0x2E8B3A);
+    private static final Color HINT_MINE = new Color(0xD23B32);
+    private static final Color HINT_GUESS = new Color(0xE08A00);
+    private static final Color[] NUMBER_COLORS = {
+        null, new Color(0x1E63D6), new Color(0x2E8B3A), new Color(0xD23B32), new Color(0x2A2F8F),
+        new Color(0x8B2E2E), new Color(0x1F8A8A), Color.BLACK, Color.GRAY
+    };
+
+    private static final int BAND_ROWS = 16;   // 변경 영역을 모으는 행 묶음 높이
+    private static final int FRAME_MILLIS = 16; // 변경 영역 반영 주기 (약 60fps)
+    private static final int ZOOM_STEP = 4;     // 휠 한 칸당 셀 크기 변화(px)
+    // -Dminesweeper.debugRepaint=true 이면 조작마다 다시 그리기 요청/실제 paint 횟수를 출력
+    private static final boolean DEBUG_REPAINT = Boolean.getBoolean("minesweeper.debugRepaint");
+
+    private final GameWindow window;
+    private final Board board;
+    private int cellSize;
+    private boolean inputEnabled = true;
+    private final BufferedImage[] glyphs = new BufferedImage[GLYPH_COUNT]; // 현재 cellSize용 캐시
+
+    // 행 묶음별 변경 열 범위 (-1 = 변경 없음), 프레임 타이머가 한 번에 반영
+    private final int[] dirtyMinCol, dirtyMaxCol;
+    private final Timer flushTimer;
+    private int moveRepaintRequests, movePaintCalls;         // 진행 중인 조작의 누적값
+    private int lastMoveRepaintRequests, lastMovePaintCalls; // 직전 조작의 확정값
+    private int hintRow = -1, hintCol = -1; // 강조 중인 힌트 칸 (-1 = 없음)
+    private Color hintColor;
+
+    BoardCanvas(Board board, GameWindow window, int cellSize) {
+        this.board = board;
+        this.window = window;
+        int bands = (board.getRows() + BAND_ROWS - 1) / BAND_ROWS;
+        this.dirtyMinCol = new int[bands];
+        this.dirtyMaxCol = new int[bands];
+        Arrays.fill(dirtyMinCol, -1);
+        this.flushTimer = new Timer(FRAME_MILLIS, e -> flushDirtyRegions());
+        this.flushTimer.setRepeats(false);
+        setOpaque(true);
+        setCellSize(cellSize);
+
+        // 좌클릭 우클릭 이벤트 처리 (가운데 정렬 여백을 뺀 뒤 칸 좌표로 환산)
+        // 가운데 버튼이나 좌우 버튼을 함께 누르면 코딩 — 먼저 눌린 버튼의 동작은 열린 칸이라 무시됨
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!inputEnabled) {return;}
+                int x = e.getX() - originX();
+                int y = e.getY() - originY();
+                if (x < 0 || y < 0) {return;}
+                int row = y / BoardCanvas.this.cellSize;
+                int col = x / BoardCanvas.this.cellSize;
+                if (row >= BoardCanvas.this.board.getRows() || col >= BoardCanvas.this.board.getCols()) {return;}
+
+                int both = MouseEvent.BUTTON1_DOWN_MASK | MouseEvent.BUTTON3_DOWN_MASK;
+                if (SwingUtilities.isMiddleMouseButton(e) || (e.getModifiersEx() & both) == both) {
+                    window.handleChord(row, col);
+                } else if (SwingUtilities.isLeftMouseButton(e)) {
+                    window.handleOpen(row, col);
+                } else if (SwingUtilities.isRightMouseButton(e)) {
+                    window.handleFlag(row, col);
+                }
+            }
+        });
+        addMouseWheelListener(this::onMouseWheel);
+    }
+
+    // Ctrl+휠: 마우스 아래 칸을 고정한 채 확대/축소, 그 외 휠은 스크롤 패널로 넘김
+    private void onMouseWheel(MouseWheelEvent e) {
+        JScrollPane scroll = (JScrollPane) SwingUtilities.getAncestorOfClass(JScrollPane.class, this);
+        if (!e.isControlDown() || scroll == null) {
+            if (scroll != null) {scroll.dispatchEvent(SwingUtilities.convertMouseEvent(this, e, scroll));}
+            return;
+        }
+        int newSize = window.clampZoomCellSize(cellSize - e.getWheelRotation() * ZOOM_STEP);
+        if (newSize == cellSize) {return;}
+
+        JViewport viewport = scroll.getViewport();
+        Point view = viewport.getViewPosition();
+        double boardX = (double) (e.getX() - originX()) / cellSize; // 마우스 아래 보드 좌표(칸 단위)
+        double boardY = (double) (e.getY() - originY()) / cellSize;
+        int mouseInViewX = e.getX() - view.x;
+        int mouseInViewY = e.getY() - view.y;
+
+        setCellSize(newSize);
+        window.onCanvasZoomed(newSize);
+        scroll.validate(); // 새 크기로 배치한 뒤 위치 보정
+
+        int x = (int) Math.round(boardX * newSize) + originX() - mouseInViewX;
+        int y = (int) Math.round(boardY * newSize) + originY() - mouseInViewY;
+        Dimension extent = viewport.getExtentSize();
+        x = Math.max(0, Math.min(x, getWidth() - extent.width));
+        y = Math.max(0, Math.min(y, getHeight() - extent.height));
+        viewport.setViewPosition(new Point(x, y));
+    }
+
+    // 셀 크기가 바뀌면 글리프 캐시를 비우고 컴포넌트 크기를 다시 계산
+    void setCellSize(int cellSize) {
+        if (cellSize == this.cellSize) {return;}
+        this.cellSize = cellSize;
+        Arrays.fill(glyphs, null);
+        updateSizes();
+        repaint();
+    }
+
+    int getCellSize() {return cellSize;}
+
+    void setInputEnabled(boolean enabled) {inputEnabled = enabled;}
+
+    // 칸을 변경 영역에 추가 — 실제 repaint는 다음 프레임에 묶어서 요청
+    void repaintCell(int row, int col) {
+        int band = row / BAND_ROWS;
+        if (dirtyMinCol[band] < 0) {
+            dirtyMinCol[band] = col;
+            dirtyMaxCol[band] = col;
+        } else {
+            dirtyMinCol[band] = Math.min(dirtyMinCol[band], col);
+            dirtyMaxCol[band] = Math.max(dirtyMaxCol[band], col);
+        }
+        if (!flushTimer.isRunning()) {flushTimer.start();}
+    }
+
+    // 이웃한 행 묶음의 열 범위가 겹치면 하나의 사각형으로 합쳐 repaint 요청
+    private void flushDirtyRegions() {
+        int runStart = -1, runMin = 0, runMax = 0;
+        for (int band = 0; band <= dirtyMinCol.length; band++) {
+            boolean dirty = band < dirtyMinCol.length && dirtyMinCol[band] >= 0;
+            if (dirty && runStart >= 0 && dirtyMinCol[band] <= runMax + 1 && dirtyMaxCol[band] >= runMin - 1) {
+                runMin = Math.min(runMin, dirtyMinCol[band]);
+                runMax = Math.max(runMax, dirtyMaxCol[band]);
+                dirtyMinCol[band] = -1;
+                continue;
+            }
+            if (runStart >= 0) {
+                repaintBands(runStart, band - 1, runMin, runMax);
+                runStart = -1;
+            }
+            if (dirty) {
+                runStart = band;
+                runMin = dirtyMinCol[band];
+                runMax = dirtyMaxCol[band];
+                dirtyMinCol[band] = -1;
+            }
+        }
+    }
+
+    private void repaintBands(int firstBand, int lastBand, int minCol, int maxCol) {
+        int y = firstBand * BAND_ROWS * cellSize;
+        int height = Math.min(board.getRows(), (lastBand + 1) * BAND_ROWS) * cellSize - y;
+        repaint(originX() + minCol * cellSize, originY() + y, (maxCol - minCol + 1) * cellSize, height);
+        moveRepaintRequests++;
+    }
+
+    // 힌트 칸을 테두리로 강조하고 화면에 보이도록 스크롤 (안전 칸 = 초록, 지뢰 = 빨강, 확률상 추측 = 주황)
+    void showHint(int row, int col, boolean mine, boolean guess) {
+        clearHint();
+        hintRow = row;
+        hintCol = col;
+        hintColor = guess ? HINT_GUESS : mine ? HINT_MINE : HINT_SAFE;
+        repaintCell(row, col);
+        scrollRectToVisible(new Rectangle(originX() + col * cellSize, originY() + row * cellSize, cellSize, cellSize));
+    }
+
+    private void clearHint() {
+        if (hintRow < 0) {return;}
+        repaintCell(hintRow, hintCol);
+        hintRow = -1;
+        hintCol = -1;
+    }
+
+    // 새 조작 시작: 직전 조작의 다시 그리기 통계를 확정하고 힌트 강조 해제
+    void beginMove() {
+        clearHint();
+        lastMoveRepaintRequests = moveRepaintRequests;
+        lastMovePaintCalls = movePaintCalls;
+        moveRepaintRequests = 0;
+        movePaintCalls = 0;
+        if (DEBUG_REPAINT) {
+            System.out.printf("repaint requests: %d, paint calls: %d%n", lastMoveRepaintRequests, lastMovePaintCalls);
+        }
+    }
+
+    int getLastMoveRepaintRequests() {return lastMoveRepaintRequests;}
+    int getLastMovePaintCalls() {return lastMovePaintCalls;}
+
+    private void updateSizes() {
+        Dimension size = new Dimension(boardWidth(), boardHeight());
+        setPreferredSize(size);
+        setMinimumSize(size);
+        revalidate();
+    }
+
+    private int boardWidth() {return cellSize * board.getCols();}
+    private int boardHeight() {return cellSize * board.getRows();}
+
+    // 뷰포트가 보드보다 크면 남는 공간의 절반만큼 밀어 가운데 정렬
+    private int originX() {return Math.max(0, (getWidth() - boardWidth()) / 2);}
+    private int originY() {return Math.max(0, (getHeight() - boardHeight()) / 2);}
+
+    // ── Scrollable: 보드보다 넓은 뷰포트는 채워서(가운데 정렬), 좁으면 스크롤 ──
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {return getPreferredSize();}
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return cellSize; // 한 칸씩
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.HORIZONTAL ? visibleRect.width : visibleRect.height;
+        return Math.max(cellSize, extent - cellSize); // 한 화면에서 한 칸 겹치게
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return getParent() instanceof JViewport v && v.getWidth() > boardWidth();
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport v && v.getHeight() > boardHeight();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        movePaintCalls++;
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {clip = new Rectangle(0, 0, getWidth(), getHeight());}
+        g.setColor(getParent() != null ? getParent().getBackground() : getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height); // 가운데 정렬 여백
+
+        // 클립(=뷰포트에 보이는 영역) 주변 여유 1칸까지만 그림 — 보드 크기와 무관한 비용
+        int ox = originX(), oy = originY();
+        int firstRow = Math.max(0, (clip.y - oy) / cellSize - 1);
+        int lastRow = Math.min(board.getRows() - 1, (clip.y + clip.height - oy) / cellSize + 1);
+        int firstCol = Math.max(0, (clip.x - ox) / cellSize - 1);
+        int lastCol = Math.min(board.getCols() - 1, (clip.x + clip.width - ox) / cellSize + 1);
+
+        for (int r = firstRow; r <= lastRow; r++) {
+            for (int c = firstCol; c <= lastCol; c++) {
+                g.drawImage(glyph(glyphIndex(r, c)), ox + c * cellSize, oy + r * cellSize, null);
+            }
+        }
+        if (hintRow >= firstRow && hintRow <= lastRow && hintCol >= firstCol && hintCol <= lastCol) {
+            Graphics2D g2 = (Graphics2D) g;
+            g2.setColor(hintColor);
+            g2.setStroke(new BasicStroke(Math.max(2, cellSize / 10)));
+            int inset = Math.max(1, cellSize / 20);
+            g2.drawRect(ox + hintCol * cellSize + inset, oy + hintRow * cellSize + inset,
+                    cellSize - 2 * inset - 1, cellSize - 2 * inset - 1);
+        }
+    }
+
+    private int glyphIndex(int r, int c) {
+        if (board.isOpened(r, c)) {
+            return board.isMine(r, c) ? GLYPH_MINE : board.getNearMineCount(r, c);
+        }
+        FlagState flagState = board.getFlagState(r, c);
+        return switch (flagState) {
+            case FLAGGED -> GLYPH_FLAGGED;
+            case QUESTION -> GLYPH_QUESTION;
+            default -> GLYPH_CLOSED; // 기본값(NONE 포함)
+        };
+    }
+
+    private BufferedImage glyph(int kind) {
+        BufferedImage image = glyphs[kind];
+        if (image == null) {
+            image = renderGlyph(kind);
+            glyphs[kind] = image;
+        }
+        return image;
+    }
+
+    // 칸 하나의 모양을 이미지로 미리 그려 둠
+    private BufferedImage renderGlyph(int kind) {
+        BufferedImage image = new BufferedImage(cellSize, cellSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        boolean opened = kind <= GLYPH_MINE;
+        if (opened) {
+            g.setColor(OPENED_FILL);
+            g.fillRect(0, 0, cellSize, cellSize);
+            g.setColor(GRID_LINE);
+            g.drawRect(0, 0, cellSize - 1, cellSize - 1);
+        } else {
+            g.setColor(CLOSED_FILL);
+            g.fillRect(0, 0, cellSize, cellSize);
+            g.setColor(CLOSED_LIGHT); // 버튼처럼 보이도록 좌상단 밝게, 우하단 어둡게
+            g.drawLine(0, 0, cellSize - 1, 0);
+            g.drawLine(0, 0, 0, cellSize - 1);
+            g.setColor(CLOSED_SHADOW);
+            g.drawLine(0, cellSize - 1, cellSize - 1, cellSize - 1);
+            g.drawLine(cellSize - 1, 0, cellSize - 1, cellSize - 1);
+        }
+
+        String text = switch (kind) {
+            case GLYPH_MINE -> "💣";
+            case GLYPH_FLAGGED -> "🚩";
+            case GLYPH_QUESTION -> "❓";
+            case 0, GLYPH_CLOSED -> "";
+            default -> String.valueOf(kind);
+        };
+        if (!text.isEmpty()) {
+            Font base = getFont() != null ? getFont() : new Font(Font.DIALOG, Font.PLAIN, 14);
+            Font font = base.deriveFont(Font.BOLD, Math.max(10f, cellSize * 0.45f));
+            g.setFont(font);
+            g.setColor(kind <= 8 ? NUMBER_COLORS[kind] : Color.BLACK);
+            FontMetrics fm = g.getFontMetrics();
+            int x = (cellSize - fm.stringWidth(text)) / 2;
+            int y = (cellSize - fm.getHeight()) / 2 + fm.getAscent();
+            g.drawString(text, x, y);
+        }
+        g.dispose();
+        return image;
+    }
+}
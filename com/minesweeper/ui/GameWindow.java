@@ -4,28 +4,43 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
+import com.minesweeper.common.BoardSpec;
 import com.minesweeper.common.Difficulty;
+import com.minesweeper.common.GameState;
+import com.minesweeper.common.MoveResult;
 import com.minesweeper.game.Board;
-import com.minesweeper.game.cells.Cell;
+import com.minesweeper.game.BoardPool;
+import com.minesweeper.game.ConstraintSolver;
+import com.minesweeper.game.GameManager;
+import com.minesweeper.game.IntList;
+import com.minesweeper.game.MoveJournal;
 
 // 전체 게임 창을 구성하고 보드 렌더링, 메뉴, 상태 표시, 종료 처리 등 UI 흐름을 제어
 // JFrame을 상속받아 메뉴바/보드패널을 포함하며, 난이도 변경과 보드 갱신 로직을 메서드로 분리함
 
 public class GameWindow extends JFrame {
 	
-    private Difficulty currentDifficulty = Difficulty.EASY; // 초기화면
+    private Difficulty currentDifficulty = Difficulty.EASY; // 초기화면 (사용자 정의 보드면 null)
+    private BoardSpec currentSpec = currentDifficulty.toSpec(); // 실제 보드 사양
     
     private boolean gameFinished;
     
+    private GameManager game; // 헤드리스 게임 엔진 (이 창은 그 클라이언트)
     private Board board;
-    private JPanel boardPanel,boardContainer, statusPanel;
-    private CellButton[][] buttons; // 버튼 빠른 접근을 위해 2차원 배열 보관
+    private JPanel statusPanel;
+    private JScrollPane boardScroll; // 보드가 창보다 크면 스크롤되는 뷰포트
+    private int userCellSize; // Ctrl+휠로 정한 확대 배율(셀 크기), 0이면 창 크기에 자동 맞춤
+    private BoardCanvas boardCanvas; // 보드 전체를 그리는 단일 컴포넌트
+    private final MoveJournal journal = openJournal(); // -Dminesweeper.journal=<파일> 지정 시 조작 기록
     
-    private JRadioButtonMenuItem easyMenuItem, normalMenuItem, hardMenuItem;
+    private JRadioButtonMenuItem easyMenuItem, normalMenuItem, hardMenuItem, customMenuItem;
+    private boolean noGuessMode; // 추측 없이 풀리는 보드만 생성
     private JLabel difficultyLabel; // 게임화면 상단 내용 추가 목적
     private TimerPanel timerPanel; // 타이머 추가
     
@@ -34,6 +49,13 @@ public class GameWindow extends JFrame {
     private static final Object[] END_GAME_OPTIONS = {"새게임", "난이도 선택"}; // 게임 종료시 공통 선택지
     private static final int MIN_CELL_SIZE = 32;
     private static final int MAX_CELL_SIZE = 80;
+    private static final int MIN_ZOOM_CELL_SIZE = 8; // 뷰포트 모드에서 축소 가능한 최소 셀 크기
+    private static final int MIN_VIEWPORT_CELLS = 9; // 큰 보드에서도 창 최소 크기는 이 칸 수까지만 보장
+    private static final long GUESS_BUDGET_MILLIS = 300; // 확률 힌트 계산 시간 예산
+    // 첫 클릭 때 지뢰 배치를 기다리지 않도록 작업 스레드에서 미리 만들어 두는 보드 풀
+    private static final BoardPool BOARD_POOL = new BoardPool(2, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    // -Dminesweeper.debugPool=true 이면 첫 클릭마다 풀 지표(보관 수, 적중률, 생성 시간)를 출력
+    private static final boolean DEBUG_POOL = Boolean.getBoolean("minesweeper.debugPool");
     
     public GameWindow() {
         setTitle("Minesweeper");
@@ -52,6 +74,25 @@ public class GameWindow extends JFrame {
         SwingUtilities.invokeLater(this::updateBoardSizing);
     }
     
+    // 저널 파일이 지정되면 이어쓰기로 열고, 종료 시 남은 버퍼를 기록하도록 훅 등록
+    private static MoveJournal openJournal() {
+        String path = System.getProperty("minesweeper.journal");
+        if (path == null || path.isBlank()) {return null;}
+        try {
+            MoveJournal journal = new MoveJournal(Path.of(path));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    journal.close();
+                } catch (IOException ignored) {
+                    // 종료 중이므로 무시
+                }
+            }));
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void setupWindowResizeHandler() {
         addComponentListener(new ComponentAdapter() {
             @Override
@@ -70,12 +111,23 @@ public class GameWindow extends JFrame {
         newGameItem.addActionListener(e -> restartCurrentGame());
         gameMenu.add(newGameItem);
 
+        JMenuItem undoItem = new JMenuItem("되돌리기");
+        undoItem.setAccelerator(KeyStroke.getKeyStroke("ctrl Z"));
+        undoItem.addActionListener(e -> handleHistory(true));
+        JMenuItem redoItem = new JMenuItem("다시 실행");
+        redoItem.setAccelerator(KeyStroke.getKeyStroke("ctrl Y"));
+        redoItem.addActionListener(e -> handleHistory(false));
+        gameMenu.addSeparator();
+        gameMenu.add(undoItem);
+        gameMenu.add(redoItem);
+
         JMenu difficultyMenu = new JMenu("난이도");
         ButtonGroup diffBtnGroup = new ButtonGroup();
 
         easyMenuItem = new JRadioButtonMenuItem("초급 (9x9, 10)");
         normalMenuItem = new JRadioButtonMenuItem("중급 (16x16, 40)");
         hardMenuItem = new JRadioButtonMenuItem("고급 (16x30, 99)");
+        customMenuItem = new JRadioButtonMenuItem("사용자 정의...");
 
         // 초기 체크 상태
         easyMenuItem.setSelected(currentDifficulty == Difficulty.EASY);
@@ -85,24 +137,41 @@ public class GameWindow extends JFrame {
         easyMenuItem.addActionListener(e -> startGameWithDifficulty(Difficulty.EASY));
         normalMenuItem.addActionListener(e -> startGameWithDifficulty(Difficulty.NORMAL));
         hardMenuItem.addActionListener(e -> startGameWithDifficulty(Difficulty.HARD));
+        customMenuItem.addActionListener(e -> chooseCustomBoard());
 
         diffBtnGroup.add(easyMenuItem);
         diffBtnGroup.add(normalMenuItem);
         diffBtnGroup.add(hardMenuItem);
+        diffBtnGroup.add(customMenuItem);
 
         difficultyMenu.add(easyMenuItem);
         difficultyMenu.add(normalMenuItem);
         difficultyMenu.add(hardMenuItem);
+        difficultyMenu.addSeparator();
+        difficultyMenu.add(customMenuItem);
+
+        JCheckBoxMenuItem noGuessMenuItem = new JCheckBoxMenuItem("추측 없는 보드");
+        noGuessMenuItem.addActionListener(e -> {
+            noGuessMode = noGuessMenuItem.isSelected();
+            restartCurrentGame();
+        });
+        difficultyMenu.addSeparator();
+        difficultyMenu.add(noGuessMenuItem);
 
         menuBar.add(gameMenu);
         menuBar.add(difficultyMenu);
         return menuBar;
     }
     
-    // 현재 난이도로 게임 초기화
+    // 현재 보드 사양으로 게임 초기화
     private void initBoard() {
-        board = new Board(currentDifficulty);
-        board.initBoard();
+        game = new GameManager(currentSpec);
+        game.setJournal(journal);
+        game.startGame();
+        board = game.getBoard();
+        board.setNoGuess(noGuessMode);
+        board.setZeroRegionIndexEnabled(true); // 큰 0 영역 연쇄 오픈을 색인으로 (헤드리스 보드는 기본 꺼짐)
+        BOARD_POOL.prefill(currentSpec, noGuessMode); // 다음 첫 클릭용 배치를 백그라운드에서 준비
         gameFinished = false;
         if (timerPanel != null) {timerPanel.resetTimer();}
         updateDifficultyLabel();
@@ -110,52 +179,154 @@ public class GameWindow extends JFrame {
 
     // 배치 후 화면 갱신
     private void renderBoard() {
-    	if (boardContainer != null) {remove(boardContainer);}
+    	if (boardScroll != null) {remove(boardScroll);}
 
-        int R = board.getRows(), C = board.getCols();
-        buttons = new CellButton[R][C]; // 2차원 배열 준비
-        
-        boardPanel = new JPanel(new GridLayout(R, C));
-        Cell[][] cells = board.getCells();
-
-        for (int r = 0; r < R; r++) {
-            for (int c = 0; c < C; c++) {
-            	CellButton b = new CellButton(cells[r][c], board, this); // GameWindow 참조 전달
-                buttons[r][c] = b; // ← 보관
-                boardPanel.add(b);
-            }
-        }
-        
-        // 셀크기 조정
-        boardContainer = new JPanel(new GridBagLayout());
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.gridx = 0;
-        gbc.gridy = 0;
-        gbc.fill = GridBagConstraints.NONE;
-        gbc.anchor = GridBagConstraints.CENTER;
-        boardContainer.add(boardPanel, gbc);
-
-        add(boardContainer, BorderLayout.CENTER);
+        // 칸별 컴포넌트 없이 캔버스 하나가 모델을 직접 그림 (GameWindow 참조 전달)
+        // 캔버스는 스크롤 뷰포트에 보이는 칸만 그리므로 보드 크기와 무관하게 가볍다
+        boardCanvas = new BoardCanvas(board, this, MIN_CELL_SIZE);
+        userCellSize = 0;
+
+        boardScroll = new JScrollPane(boardCanvas);
+        boardScroll.setBorder(BorderFactory.createEmptyBorder());
+
+        add(boardScroll, BorderLayout.CENTER);
         updateBoardSizing();
         
         revalidate();
         repaint();
     }
 
-    // 부분 갱신 전용
+    // 부분 갱신 전용 — 캔버스가 변경 칸을 영역 단위로 모아 프레임당 한 번 다시 그림
     public void refreshCells(List<Point> opened) {
         for (Point p : opened) {
-            buttons[p.x][p.y].refreshFromModel();
+            boardCanvas.repaintCell(p.x, p.y);
+        }
+    }
+
+    // 부분 갱신 전용 (압축 인덱스 버전)
+    public void refreshCells(IntList opened) {
+        for (int i = 0; i < opened.size(); i++) {
+            int idx = opened.get(i);
+            boardCanvas.repaintCell(board.rowOf(idx), board.colOf(idx));
+        }
+    }
+
+    // 좌클릭 처리: 엔진에 열기를 요청하고 결과 코드에 따라 화면 반영
+    void handleOpen(int r, int c) {
+        if (!board.getIsMinePlaced() && !board.isSeedPrepared()) { // 첫 클릭: 미리 만든 배치가 있으면 바로 사용
+            Board pooled = BOARD_POOL.take(currentSpec, board.isNoGuess(), r, c);
+            if (DEBUG_POOL) {System.out.println("board pool: " + BOARD_POOL.metrics());}
+            if (pooled != null) {
+                game.adoptLayout(pooled);
+            } else if (board.isNoGuess()) {
+                prepareNoGuessBoard(r, c);
+                return;
+            }
+        }
+        boardCanvas.beginMove();
+        MoveResult result = game.open(r, c);
+        if (result == MoveResult.IGNORED) {return;}
+
+        if (result != MoveResult.BOOM) {
+            onCellOpenInitiated(); // 첫 클릭 시 타이머 실행
+        }
+        refreshCells(game.getLastOpened()); // 연쇄 여부 무관 — 열린 칸만 부분 갱신
+        switch (result) {
+            case BOOM -> onGameOver("지뢰를 클릭했습니다!"); // 지뢰 클릭시 게임오버
+            case WON -> onGameWin();
+            default -> {}
+        }
+    }
+
+    // 추측 없는 보드의 첫 클릭: 풀리는 배치를 백그라운드에서 찾는 동안 입력만 막고, 찾으면 그 클릭을 이어서 처리
+    private void prepareNoGuessBoard(int r, int c) {
+        boardCanvas.setInputEnabled(false);
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        GameManager requested = game;
+        game.findNoGuessSeedAsync(r, c).thenAccept(seed -> SwingUtilities.invokeLater(() -> {
+            setCursor(Cursor.getDefaultCursor());
+            if (game != requested) {return;} // 기다리는 동안 새 게임이 시작됨
+            boardCanvas.setInputEnabled(true);
+            board.prepareSeed(seed);
+            handleOpen(r, c);
+        }));
+    }
+
+    // 코딩 처리: 합쳐진 열린 칸 목록으로 한 번만 갱신
+    void handleChord(int r, int c) {
+        boardCanvas.beginMove();
+        MoveResult result = game.chord(r, c);
+        if (result == MoveResult.IGNORED) {return;}
+
+        refreshCells(game.getLastOpened());
+        switch (result) {
+            case BOOM -> onGameOver("지뢰를 클릭했습니다!");
+            case WON -> onGameWin();
+            default -> {}
         }
     }
-    // 현재 난이도로 재시작
+
+    // 우클릭 처리: 깃발 제한에 걸리면 경고창으로 안내
+    void handleFlag(int r, int c) {
+        boardCanvas.beginMove();
+        MoveResult result = game.toggleFlag(r, c);
+        if (result == MoveResult.FLAG_LIMIT) {
+            JOptionPane.showMessageDialog(this, board.flagLimitMessage(), "잘못된 조작", JOptionPane.WARNING_MESSAGE);
+        }
+        boardCanvas.repaintCell(r, c);
+        if (result == MoveResult.WON) {onGameWin();}
+    }
+
+    // 힌트: 보이는 정보만으로 확실한 칸을 강조, 없으면 지뢰 확률이 가장 낮은 칸을 백그라운드에서 계산해 추천
+    void showHint() {
+        if (gameFinished) {return;}
+        if (!board.getIsMinePlaced()) {
+            JOptionPane.showMessageDialog(this, "먼저 아무 칸이나 열어 주세요.", "힌트", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        ConstraintSolver.Hint hint = game.hint();
+        if (hint != null) {
+            boardCanvas.showHint(hint.row(), hint.col(), hint.mine(), false);
+            return;
+        }
+
+        GameManager requested = game;
+        game.probabilitiesAsync(GUESS_BUDGET_MILLIS).thenAccept(result -> SwingUtilities.invokeLater(() -> {
+            if (game != requested || gameFinished) {return;} // 계산 중 새 게임이 시작됨
+            ConstraintSolver.Hint guess = result.safestGuess();
+            if (guess == null) {return;}
+            boardCanvas.showHint(guess.row(), guess.col(), false, true);
+            JOptionPane.showMessageDialog(this,
+                    String.format("확실한 칸이 없어 가장 안전한 칸을 추천합니다. (지뢰 확률 %.1f%%%s)",
+                            result.probability(guess.row(), guess.col()) * 100, result.isExact() ? "" : ", 근사"),
+                    "힌트", JOptionPane.INFORMATION_MESSAGE);
+        }));
+    }
+
+    // 되돌리기/다시 실행: 변경된 칸만 다시 그림 (종료된 판은 새 게임으로만 진행)
+    private void handleHistory(boolean undo) {
+        if (gameFinished) {return;}
+        boardCanvas.beginMove();
+        boolean done = undo ? game.undo() : game.redo();
+        if (!done) {return;}
+        refreshCells(game.getLastOpened());
+        if (game.getState() == GameState.WON) {onGameWin();}
+    }
+
+    // 현재 난이도(또는 사용자 정의 사양)로 재시작
     private void restartCurrentGame() {
-        startGameWithDifficulty(currentDifficulty);
+        startGameWithSpec(currentDifficulty, currentSpec);
     }
 
     // 변경된 난이도로 재시작
     private void startGameWithDifficulty(Difficulty difficulty) {
+        startGameWithSpec(difficulty, difficulty.toSpec());
+    }
+
+    // difficulty가 null이면 사용자 정의 보드
+    private void startGameWithSpec(Difficulty difficulty, BoardSpec spec) {
         currentDifficulty = difficulty;
+        currentSpec = spec;
         initBoard();
         renderBoard();
         updateDifficultyMenuSelection();
@@ -168,6 +339,48 @@ public class GameWindow extends JFrame {
         easyMenuItem.setSelected(currentDifficulty == Difficulty.EASY);
         normalMenuItem.setSelected(currentDifficulty == Difficulty.NORMAL);
         hardMenuItem.setSelected(currentDifficulty == Difficulty.HARD);
+        customMenuItem.setSelected(currentDifficulty == null);
+    }
+
+    // 사용자 정의 보드 입력 (행/열/지뢰 수/시드) — 검증 실패 시 안내 후 기존 게임 유지
+    private void chooseCustomBoard() {
+        JTextField rowsField = new JTextField(String.valueOf(currentSpec.rows()));
+        JTextField colsField = new JTextField(String.valueOf(currentSpec.cols()));
+        JTextField minesField = new JTextField(String.valueOf(currentSpec.mines()));
+        JTextField seedField = new JTextField(currentSpec.seed() == null ? "" : String.valueOf(currentSpec.seed()));
+
+        JPanel form = new JPanel(new GridLayout(0, 2, 8, 4));
+        form.add(new JLabel("행 (1~" + BoardSpec.MAX_SIDE + ")"));
+        form.add(rowsField);
+        form.add(new JLabel("열 (1~" + BoardSpec.MAX_SIDE + ")"));
+        form.add(colsField);
+        form.add(new JLabel("지뢰 수"));
+        form.add(minesField);
+        form.add(new JLabel("시드 (비우면 무작위)"));
+        form.add(seedField);
+
+        int option = JOptionPane.showConfirmDialog(this, form, "사용자 정의 보드",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            updateDifficultyMenuSelection(); // 취소 시 메뉴 선택 원복
+            return;
+        }
+
+        try {
+            String seedText = seedField.getText().trim();
+            BoardSpec spec = new BoardSpec(
+                    Integer.parseInt(rowsField.getText().trim()),
+                    Integer.parseInt(colsField.getText().trim()),
+                    Integer.parseInt(minesField.getText().trim()),
+                    seedText.isEmpty() ? null : Long.valueOf(seedText));
+            startGameWithSpec(null, spec);
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(this, "숫자를 입력하세요.", "잘못된 입력", JOptionPane.WARNING_MESSAGE);
+            updateDifficultyMenuSelection();
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "잘못된 입력", JOptionPane.WARNING_MESSAGE);
+            updateDifficultyMenuSelection();
+        }
     }
 
     public void onGameOver(String message) {
@@ -184,20 +397,10 @@ public class GameWindow extends JFrame {
         handleEndChoice(displayMessage, "Game Over");
     }
     
-    public void checkForWin() {
-        if (gameFinished || board == null) {return;}
-        if (!board.getIsMinePlaced()) {return;}
-        if (board.playerWinCheck()) {onGameWin();}
-    }
-
-   // 게임 종료 시 모든 버튼 비활성화
+   // 게임 종료 시 보드 입력 비활성화
     private void disableAllBtn() {
-        if (buttons == null) {return;}
-        for (CellButton[] row : buttons) {
-            for (CellButton button : row) {
-                button.setEnabled(false);
-            }
-        }
+        if (boardCanvas == null) {return;}
+        boardCanvas.setInputEnabled(false);
     }
     
     private void onGameWin() {
@@ -236,17 +439,15 @@ public class GameWindow extends JFrame {
     }
     
     private void openAllMines() {
-        if (board == null || buttons == null) {return;}
+        if (board == null || boardCanvas == null) {return;}
 
-        Cell[][] cells = board.getCells();
-        List<Point> minesToOpen = new ArrayList<>();
+        IntList minesToOpen = new IntList(); // 대형 보드에서도 Point 객체 없이 인덱스만 모음
 
-        for (int r = 0; r < cells.length; r++) {
-            for (int c = 0; c < cells[r].length; c++) {
-                Cell cell = cells[r][c];
-                if (cell.isMine()) {
-                    cell.setOpened(true);
-                    minesToOpen.add(new Point(r, c));
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                if (board.isMine(r, c)) {
+                    board.setOpened(r, c, true);
+                    minesToOpen.add(board.indexOf(r, c));
                 }
             }
         }
@@ -281,7 +482,7 @@ public class GameWindow extends JFrame {
     
     // 셀 사이즈 조절
     private void updateBoardSizing() {
-        if (boardPanel == null || board == null) {return;}
+        if (boardCanvas == null || board == null) {return;}
 
         int rows = board.getRows();
         int cols = board.getCols();
@@ -295,7 +496,7 @@ public class GameWindow extends JFrame {
         }
 
         if (availableWidth <= 0 || availableHeight <= 0) {
-            Dimension pref = boardPanel.getPreferredSize();
+            Dimension pref = boardCanvas.getPreferredSize();
             availableWidth = Math.max(availableWidth, pref.width);
             availableHeight = Math.max(availableHeight, pref.height);
         }
@@ -305,30 +506,36 @@ public class GameWindow extends JFrame {
         int cellSize = Math.min(cellWidth, cellHeight);
         if (cellSize <= 0) {cellSize = MIN_CELL_SIZE;}
 
+        // 창에 다 들어가지 않으면 MIN_CELL_SIZE로 고정하고 스크롤 (사용자가 확대/축소했다면 그 배율 유지)
         cellSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, cellSize));
+        if (userCellSize > 0) {cellSize = userCellSize;}
 
-        Dimension preferred = new Dimension(cellSize * cols, cellSize * rows);
-        boardPanel.setPreferredSize(preferred);
-        boardPanel.setMinimumSize(new Dimension(MIN_CELL_SIZE * cols, MIN_CELL_SIZE * rows));
-        boardPanel.setMaximumSize(new Dimension(MAX_CELL_SIZE * cols, MAX_CELL_SIZE * rows));
+        boardCanvas.setCellSize(cellSize); // 캔버스 크기와 글리프 캐시 갱신
 
-        if (boardContainer != null) {
-            boardContainer.revalidate();
+        if (boardScroll != null) {
+            boardScroll.revalidate();
         }
-        boardPanel.revalidate();
-        boardPanel.repaint();
 
         updateFrameMinimumSize();
     }
 
+    // 캔버스에서 Ctrl+휠 확대/축소 시 호출 — 이후 창 크기 자동 맞춤 대신 이 배율을 사용
+    void onCanvasZoomed(int cellSize) {
+        userCellSize = cellSize;
+    }
+
+    int clampZoomCellSize(int cellSize) {
+        return Math.max(MIN_ZOOM_CELL_SIZE, Math.min(MAX_CELL_SIZE, cellSize));
+    }
+
     private void updateFrameMinimumSize() {
         if (board == null) {return;}
 
         int rows = board.getRows();
         int cols = board.getCols();
 
-        int minBoardWidth = MIN_CELL_SIZE * cols;
-        int minBoardHeight = MIN_CELL_SIZE * rows;
+        int minBoardWidth = MIN_CELL_SIZE * Math.min(cols, MIN_VIEWPORT_CELLS);
+        int minBoardHeight = MIN_CELL_SIZE * Math.min(rows, MIN_VIEWPORT_CELLS);
 
         int statusWidth = 0;
         int statusHeight = 0;
@@ -358,11 +565,9 @@ public class GameWindow extends JFrame {
 
         timerPanel = new TimerPanel();
 
-        JPanel spacer = new JPanel();
-        spacer.setOpaque(false);
-        spacer.setPreferredSize(timerPanel.getPreferredSize());
+        HintButton hintButton = new HintButton(this);
 
-        statusPanel.add(spacer, BorderLayout.WEST);
+        statusPanel.add(hintButton, BorderLayout.WEST);
         statusPanel.add(difficultyLabel, BorderLayout.CENTER);
         statusPanel.add(timerPanel, BorderLayout.EAST);
 
@@ -370,7 +575,7 @@ public class GameWindow extends JFrame {
         updateFrameMinimumSize();
     }
 
-    // CellButton에서 첫 좌클릭 감지로 타이머 시작
+    // 첫 좌클릭 감지로 타이머 시작
     void onCellOpenInitiated() {
     	if (gameFinished || timerPanel == null) {return;}
         timerPanel.startTimerIfNeeded();
@@ -378,7 +583,7 @@ public class GameWindow extends JFrame {
 
     private void updateDifficultyLabel() {
         if (difficultyLabel == null) {return;}
-        difficultyLabel.setText(currentDifficulty.label());
+        difficultyLabel.setText(currentDifficulty != null ? currentDifficulty.label() : currentSpec.label());
     }
     
 }
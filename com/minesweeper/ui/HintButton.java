@@ -1,6 +1,16 @@
-//package com.minesweeper.ui;
-//
-//public class HintButton {
-//
-//}
-// 힌트 버튼 컴포넌트 추가를 위한 자리로 향후 UI 확장 목적
\ No newline at end of file
+package com.minesweeper.ui;
+
+import javax.swing.JButton;
+
+// 힌트 버튼: 누르면 GameWindow가 솔버에 확실한 칸을 물어 보드에 강조 표시한다.
+// 솔버는 마지막 조작으로 바뀐 칸 주변만 다시 계산하므로 큰 보드에서도 즉시 응답한다.
+
+class HintButton extends JButton {
+    private static final long serialVersionUID = 1L;
+
+    public HintButton(GameWindow window) {
+        super("힌트");
+        setFocusable(false); // 보드 단축키(Ctrl+Z 등) 포커스 유지
+        addActionListener(e -> window.showHint());
+    }
+}
@@ -0,0 +1,208 @@
+package com.minesweeper.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.minesweeper.common.BoardSpec;
+import com.minesweeper.common.Difficulty;
+import com.minesweeper.common.FlagState;
+import com.minesweeper.game.Board;
+import com.minesweeper.game.IntList;
+
+// Board 핵심 연산(초기화, 첫 클릭, 연쇄 오픈, 승리 판정, 깃발 제한 검사)을 난이도/대형 보드별로 측정하는 JMH 벤치마크
+// 실행: mvn -B package && java -jar jmh/target/benchmarks.jar -rf json -rff board-bench.json
+// 호출마다 상태를 새로 준비해야 하는 연산은 Level.Invocation 설정으로 준비 시간을 측정에서 뺀다.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmarks {
+    private static final int PARALLEL_CASCADE_THRESHOLD = 1 << 14;
+    private static final long ZERO_REGION_SEED = 2024L;
+
+    // 측정 보드 이름 → (행, 열, 지뢰): 기본 난이도 + 대형 사용자 정의 크기
+    static int[] size(String board) {
+        return switch (board) {
+            case "CUSTOM_500x500" -> new int[] {500, 500, 40_000};
+            case "CUSTOM_2000x2000" -> new int[] {2000, 2000, 640_000};
+            default -> {
+                Difficulty d = Difficulty.valueOf(board);
+                yield new int[] {d.getRows(), d.getCols(), d.getMines()};
+            }
+        };
+    }
+
+    @State(Scope.Thread)
+    public static class FreshBoard {
+        @Param({"EASY", "NORMAL", "HARD", "CUSTOM_500x500", "CUSTOM_2000x2000"})
+        public String board;
+
+        Board target;
+        int rows, cols;
+
+        @Setup(Level.Trial)
+        public void create() {
+            int[] s = size(board);
+            rows = s[0];
+            cols = s[1];
+            target = new Board(s[0], s[1], s[2]);
+        }
+    }
+
+    // 매 호출 전 initBoard로 지뢰 배치 전 상태로 되돌림
+    @State(Scope.Thread)
+    public static class FirstClickBoard extends FreshBoard {
+        final IntList opened = new IntList();
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            target.initBoard();
+            opened.clear();
+        }
+    }
+
+    // 지뢰 없는 보드 — 첫 클릭 한 번에 모든 칸이 열리는 최악의 연쇄, cascade=sequential/parallel 비교
+    @State(Scope.Thread)
+    public static class EmptyBoard {
+        @Param({"EASY", "NORMAL", "HARD", "CUSTOM_500x500", "CUSTOM_2000x2000"})
+        public String board;
+
+        @Param({"sequential", "parallel"})
+        public String cascade;
+
+        Board target;
+        final IntList opened = new IntList();
+
+        @Setup(Level.Trial)
+        public void create() {
+            int[] s = size(board);
+            target = new Board(s[0], s[1], 0);
+            target.setParallelCascadeThreshold(cascade.equals("parallel") ? PARALLEL_CASCADE_THRESHOLD : 0);
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            target.initBoard();
+            opened.clear();
+        }
+    }
+
+    // 배치 확정 후 닫힌 0 칸 하나 열기 — zeroRegionIndex=true면 0 영역 색인 조회, false면 BFS (매번 되돌리기로 닫아 둠)
+    @State(Scope.Thread)
+    public static class ZeroRegion {
+        @Param({"EASY", "NORMAL", "HARD", "CUSTOM_500x500", "CUSTOM_2000x2000"})
+        public String board;
+
+        @Param({"true", "false"})
+        public boolean zeroRegionIndex;
+
+        Board target;
+        int row, col;
+        final IntList opened = new IntList();
+
+        // 첫 클릭 뒤에도 닫힌 0 칸이 남는 첫 시드를 사용 — 두 방식이 같은 배치로 비교
+        @Setup(Level.Trial)
+        public void create() throws InterruptedException {
+            int[] s = size(board);
+            row = -1;
+            for (long seed = ZERO_REGION_SEED; row < 0; seed++) {
+                target = new Board(new BoardSpec(s[0], s[1], s[2], seed));
+                target.setZeroRegionIndexEnabled(zeroRegionIndex);
+                target.initBoard();
+                target.openCell(s[0] / 2, s[1] / 2, new IntList());
+                for (int r = 0; r < s[0] && row < 0; r++) {
+                    for (int c = 0; c < s[1]; c++) {
+                        if (!target.isOpened(r, c) && !target.isMine(r, c) && target.getNearMineCount(r, c) == 0) {
+                            row = r;
+                            col = c;
+                            break;
+                        }
+                    }
+                }
+            }
+            while (zeroRegionIndex && !target.isZeroRegionIndexReady()) {Thread.sleep(1);}
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            if (!opened.isEmpty()) {target.undo(new IntList());}
+            opened.clear();
+        }
+    }
+
+    // 첫 클릭을 마친 보드 (승리 판정/깃발 제한 검사용) — 깃발 제한 검사는 지뢰 수 절반만큼 깃발을 꽂아 둔다
+    @State(Scope.Thread)
+    public static class PlayedBoard {
+        @Param({"EASY", "NORMAL", "HARD", "CUSTOM_500x500", "CUSTOM_2000x2000"})
+        public String board;
+
+        Board target;
+
+        @Setup(Level.Trial)
+        public void create() {
+            int[] s = size(board);
+            target = new Board(s[0], s[1], s[2]);
+            target.initBoard();
+            target.openCell(s[0] / 2, s[1] / 2, new IntList());
+            int flags = s[2] / 2;
+            for (int r = 0; r < s[0] && flags > 0; r++) {
+                for (int c = 0; c < s[1] && flags > 0; c++) {
+                    if (!target.isOpened(r, c)) {
+                        target.setFlagState(r, c, FlagState.FLAGGED);
+                        flags--;
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Board initBoard(FreshBoard state) {
+        state.target.initBoard();
+        return state.target;
+    }
+
+    // 첫 클릭 = 지뢰 배치 + 인접 수 계산 + 첫 오픈(연쇄 포함)
+    @Benchmark
+    public int firstClick(FirstClickBoard state) {
+        state.target.openCell(state.rows / 2, state.cols / 2, state.opened);
+        return state.opened.size();
+    }
+
+    @Benchmark
+    public int emptyBoardCascade(EmptyBoard state) {
+        state.target.openCell(0, 0, state.opened);
+        return state.opened.size();
+    }
+
+    @Benchmark
+    public int zeroRegionCascade(ZeroRegion state) {
+        state.target.tryOpenCell(state.row, state.col, state.opened);
+        return state.opened.size();
+    }
+
+    @Benchmark
+    public boolean playerWinCheck(PlayedBoard state) {
+        return state.target.playerWinCheck();
+    }
+
+    @Benchmark
+    public Board checkFlagLimit(PlayedBoard state) {
+        state.target.checkFlagLimit(); // 다음 깃발이 허용되는지 검사 (제한 초과면 예외)
+        return state.target;
+    }
+}
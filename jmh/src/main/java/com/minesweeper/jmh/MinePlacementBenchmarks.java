@@ -0,0 +1,60 @@
+package com.minesweeper.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.minesweeper.game.MinePlacement;
+
+// 지뢰 배치 전략(기존 재시도 루프 vs Floyd vs 부분 Fisher–Yates vs 선택 추출 vs AUTO)의 1회 배치 시간을 보드 크기/밀도별로 비교
+// 실행: java -jar jmh/target/benchmarks.jar MinePlacementBenchmarks -rf json -rff placement-bench.json
+// 뽑힌 위치는 Blackhole로 넘겨 JIT가 배치 루프를 제거하지 못하게 한다.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinePlacementBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Placement {
+        @Param
+        public MinePlacement strategy;
+
+        // 행x열/지뢰 수: 기본 난이도 + 희소(15%)/밀집(90%) 대형 보드 + 안전 구역만 남기는 최대 밀도
+        @Param({"9x9/10", "16x30/99", "1000x1000/150000", "1000x1000/900000", "300x300/89991"})
+        public String board;
+
+        int rows, cols, mines;
+        Random random;
+
+        @Setup(Level.Trial)
+        public void create() {
+            String[] size = board.split("[x/]");
+            rows = Integer.parseInt(size[0]);
+            cols = Integer.parseInt(size[1]);
+            mines = Integer.parseInt(size[2]);
+            random = new Random(42);
+        }
+    }
+
+    @Benchmark
+    public void place(Placement state, Blackhole blackhole) {
+        state.strategy.place(state.rows, state.cols, state.mines, state.rows / 2, state.cols / 2,
+                state.random, blackhole::consume);
+    }
+}